@@ -1,12 +1,17 @@
 package com.book.igo.common.aws.s3;
 
+import java.net.URI;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class S3Config {
@@ -20,16 +25,75 @@ public class S3Config {
     @Value("${aws.s3.secret-access-key}")
     private String secretAccessKey;
 
+    // 비어 있으면 AWS 기본 엔드포인트. 로컬 S3 호환 스토리지(MinIO 등)를 쓸 때만 지정 (path-style 접근)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.upload.multipart-threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${aws.s3.upload.part-size-bytes:8388608}")
+    private long partSizeBytes;
+
     @Bean
     public S3Client s3Client() {
+        var builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider());
+
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 서버를 거치는 이미지 업로드용 비동기 클라이언트.
+     *
+     * <p>{@code multipart-threshold-bytes} 보다 큰 객체는 SDK 가 multipart upload 로 나눠 병렬 전송합니다.</p>
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        var builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(partSizeBytes)
+                        .build());
+
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 직접 업로드하도록 presigned URL 을 발급합니다. (서명만 하고 네트워크 호출 없음)
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        var builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider());
+
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    private boolean hasEndpoint() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+
+    private StaticCredentialsProvider credentialsProvider() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(
                 accessKeyId,
                 secretAccessKey
         );
-
-        return S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                .build();
+        return StaticCredentialsProvider.create(credentials);
     }
 }
@@ -0,0 +1,55 @@
+package com.book.igo.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합치는 single-flight 실행기.
+ *
+ * <p>먼저 들어온 호출(leader)만 실제 작업을 수행하고, 작업이 끝나기 전에 같은 키로 들어온 호출(follower)은
+ * 같은 결과(또는 같은 예외)를 받습니다. 작업이 끝나면 키는 바로 제거되므로 결과를 캐시하지는 않습니다.</p>
+ *
+ * @param <K> 합칠 기준 키
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> task) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = task.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
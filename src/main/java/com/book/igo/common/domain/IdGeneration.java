@@ -0,0 +1,21 @@
+package com.book.igo.common.domain;
+
+/**
+ * 엔티티 id 채번 설정.
+ *
+ * <p>IDENTITY 는 insert 해야 id 를 알 수 있어 Hibernate JDBC 배치가 꺼집니다. 대신 엔티티마다
+ * {@code @SequenceGenerator} 를 두고 pooled optimizer 로 {@link #ALLOCATION_SIZE} 개씩 미리 할당받습니다.
+ * MySQL 에는 시퀀스가 없으므로 Hibernate 가 {@code <sequenceName>} 테이블(한 행)로 흉내 냅니다.</p>
+ *
+ * <ul>
+ *   <li>여러 노드가 블록 단위로 나눠 가지므로 id 는 유일하지만 생성 순서와 일치하지는 않습니다.</li>
+ *   <li>DB 에서 직접 insert 하는 테이블(태그 upsert 등)은 IDENTITY 를 유지합니다.</li>
+ * </ul>
+ */
+public final class IdGeneration {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
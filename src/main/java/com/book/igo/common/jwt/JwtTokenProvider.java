@@ -5,11 +5,13 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.IncorrectClaimException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.MissingClaimException;
 import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.RequiredTypeException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -17,6 +19,7 @@ import io.jsonwebtoken.security.SignatureException;
 import java.util.Date;
 import java.util.UUID;
 import javax.crypto.SecretKey;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,9 +36,17 @@ public class JwtTokenProvider {
     private final SecretKey accessTokenKey;
     private final SecretKey refreshTokenKey;
 
+    // JwtParser는 불변/스레드 안전하므로 키별로 한 번만 만들어 재사용
+    @Getter(AccessLevel.NONE)
+    private final JwtParser accessTokenParser;
+    @Getter(AccessLevel.NONE)
+    private final JwtParser refreshTokenParser;
+
     private static final String PREFIX_BEARER = "Bearer ";
     private static final String CLAIM_USER_ROLE = "USER_ROLE";
-    private static final long DEFAULT_CLOCK_SKEW_SECONDS = 120; // 2분 오차 허용
+    private static final String CLAIM_TOKEN_EPOCH = "ver"; // 회원별 토큰 세대, 올라가면 이전 토큰 전부 무효
+    private static final String CLAIM_SESSION_ID = "sid";  // 로그인 세션(기기) ID, 재발급해도 유지
+    public static final long DEFAULT_CLOCK_SKEW_SECONDS = 120; // 2분 오차 허용
 
     public JwtTokenProvider(
             @Value("${jwt.issuer:igo-app}") String issuer,
@@ -49,9 +60,22 @@ public class JwtTokenProvider {
         this.refreshTokenKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecretBase64));
         this.refreshTokenValidityInMs = refreshTokenValidityInMs;
         this.accessTokenValidityInMs = accessTokenValidityInMs;
+        this.accessTokenParser = buildParser(accessTokenKey);
+        this.refreshTokenParser = buildParser(refreshTokenKey);
+    }
+
+    private static JwtParser buildParser(SecretKey key) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .clockSkewSeconds(DEFAULT_CLOCK_SKEW_SECONDS)
+                .build();
     }
 
-    public String generateAccessToken(User user) {
+    /**
+     * @param tokenEpoch 발급 시점의 회원 토큰 세대 ({@code ver} 클레임)
+     * @param sessionId  로그인 세션 ID ({@code sid} 클레임)
+     */
+    public String generateAccessToken(User user, long tokenEpoch, String sessionId) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + accessTokenValidityInMs);
 
@@ -64,12 +88,18 @@ public class JwtTokenProvider {
                 .claim("email", user.getEmail())
                 .claim("nickName", user.getNickName())
                 .claim(CLAIM_USER_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_EPOCH, tokenEpoch)
+                .claim(CLAIM_SESSION_ID, sessionId)
                 .id(UUID.randomUUID().toString())
                 .signWith(accessTokenKey, SIG.HS256)
                 .compact();
     }
 
-    public String generateRefreshToken(User user) {
+    /**
+     * @param tokenEpoch 발급 시점의 회원 토큰 세대 ({@code ver} 클레임)
+     * @param sessionId  로그인 세션 ID ({@code sid} 클레임)
+     */
+    public String generateRefreshToken(User user, long tokenEpoch, String sessionId) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + refreshTokenValidityInMs);
 
@@ -82,11 +112,47 @@ public class JwtTokenProvider {
                 .expiration(exp)
                 .claim("type", "refresh")
                 .claim(CLAIM_USER_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_EPOCH, tokenEpoch)
+                .claim(CLAIM_SESSION_ID, sessionId)
                 .id(UUID.randomUUID().toString())
                 .signWith(refreshTokenKey, SIG.HS256)
                 .compact();
     }
 
+    /**
+     * 액세스 토큰을 한 번만 파싱/검증해 클레임 스냅샷을 반환합니다.
+     */
+    public TokenClaims verifyAccessToken(String accessToken) {
+        return toTokenClaims(parseAccessTokenClaims(accessToken));
+    }
+
+    /**
+     * 리프레시 토큰을 한 번만 파싱/검증해 클레임 스냅샷을 반환합니다.
+     */
+    public TokenClaims verifyRefreshToken(String refreshToken) {
+        return toTokenClaims(parseRefreshTokenClaims(refreshToken));
+    }
+
+    private TokenClaims toTokenClaims(Claims claims) {
+        try {
+            // ver 클레임 도입 이전에 발급된 토큰은 0세대로 취급
+            Long tokenEpoch = claims.get(CLAIM_TOKEN_EPOCH, Long.class);
+
+            return new TokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("nickName", String.class),
+                    claims.get(CLAIM_USER_ROLE, String.class),
+                    claims.getId(),
+                    claims.getExpiration().getTime(),
+                    tokenEpoch != null ? tokenEpoch : 0L,
+                    claims.get(CLAIM_SESSION_ID, String.class)
+            );
+        } catch (NumberFormatException | NullPointerException | RequiredTypeException e) {
+            throw new TokenException(JwtErrorCode.INVALID_CLAIMS);
+        }
+    }
+
     public Long getUserIdByRefreshToken(String refreshToken) {
         Claims claims = parseRefreshTokenClaims(refreshToken);
         return Long.parseLong(claims.getSubject());
@@ -123,21 +189,18 @@ public class JwtTokenProvider {
     }
 
     private Claims parseRefreshTokenClaims(String refreshToken) {
-        return getClaims(refreshToken, refreshTokenKey);
+        return getClaims(refreshToken, refreshTokenParser);
     }
 
     private Claims parseAccessTokenClaims(String accessToken) {
-        return getClaims(accessToken, accessTokenKey);
+        return getClaims(accessToken, accessTokenParser);
     }
 
-    private Claims getClaims(String token, SecretKey key) {
+    private Claims getClaims(String token, JwtParser parser) {
         String stripped = stripBearer(token);
 
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .clockSkewSeconds(DEFAULT_CLOCK_SKEW_SECONDS)
-                    .build()
+            return parser
                     .parseSignedClaims(stripped)
                     .getPayload();
 
@@ -160,7 +223,10 @@ public class JwtTokenProvider {
         }
     }
 
-    private String stripBearer(String token) {
+    /**
+     * "Bearer " 접두사를 제거한 순수 토큰 문자열을 반환합니다.
+     */
+    public String stripBearer(String token) {
         if (token == null || token.isBlank()) {
             throw new TokenException(JwtErrorCode.NOT_FOUND_TOKEN);
         }
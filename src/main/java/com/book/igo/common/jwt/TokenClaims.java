@@ -0,0 +1,32 @@
+package com.book.igo.common.jwt;
+
+/**
+ * 서명/만료 검증을 마친 JWT 클레임의 불변 스냅샷.
+ *
+ * <p>{@link JwtTokenProvider#verifyAccessToken(String)} / {@link JwtTokenProvider#verifyRefreshToken(String)}
+ * 에서 한 번만 파싱한 결과를 담아, 호출부가 같은 토큰을 반복 검증하지 않도록 합니다.</p>
+ *
+ * @param userId      subject(회원 ID)
+ * @param email       이메일 (리프레시 토큰에는 없음)
+ * @param nickName    닉네임 (리프레시 토큰에는 없음)
+ * @param role        USER_ROLE 클레임 값
+ * @param jti         토큰 고유 ID
+ * @param expiresAtMs 만료 시각(epoch millis)
+ * @param tokenEpoch  발급 시점의 회원 토큰 세대({@code ver} 클레임, 없으면 0)
+ * @param sessionId   로그인 세션 ID({@code sid} 클레임, 세션 도입 이전 토큰은 null)
+ */
+public record TokenClaims(
+        Long userId,
+        String email,
+        String nickName,
+        String role,
+        String jti,
+        long expiresAtMs,
+        long tokenEpoch,
+        String sessionId
+) {
+
+    public long remainingTtlMs() {
+        return Math.max(expiresAtMs - System.currentTimeMillis(), 0);
+    }
+}
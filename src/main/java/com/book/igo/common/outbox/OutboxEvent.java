@@ -0,0 +1,80 @@
+package com.book.igo.common.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커밋 이후 처리할 부수 효과 한 건. 원래 변경과 같은 트랜잭션에서 저장되므로 커밋되면 반드시 남습니다.
+ *
+ * <p>처리에 성공하면 행을 지우고, 실패하면 {@code availableAt} 을 뒤로 미뤄 재시도합니다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_outbox_events",
+        indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at")
+)
+@Entity
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 50, updatable = false)
+    private String eventType;
+
+    @Column(name = "aggregate_id", updatable = false)
+    private Long aggregateId;
+
+    // JSON (없으면 null)
+    @Column(name = "payload", columnDefinition = "TEXT", updatable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 가져갈 수 있음 (재시도 대기/처리 중 임대)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    static OutboxEvent create(String eventType, Long aggregateId, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.aggregateId = aggregateId;
+        event.payload = payload;
+        event.status = OutboxStatus.PENDING;
+        event.createdAt = LocalDateTime.now();
+        event.availableAt = event.createdAt;
+        return event;
+    }
+
+    /**
+     * 다른 노드가 가져가지 않도록 {@code until} 까지 숨깁니다. 처리 도중 노드가 죽으면 그 뒤에 다시 처리됩니다.
+     */
+    void lease(LocalDateTime until) {
+        this.availableAt = until;
+    }
+}
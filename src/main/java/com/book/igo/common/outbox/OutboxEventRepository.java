@@ -0,0 +1,58 @@
+package com.book.igo.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 처리할 이벤트를 잠그며 가져옵니다. 다른 노드가 잠근 행은 기다리지 않고 건너뜁니다. (트랜잭션 안에서 호출)
+     */
+    @Query(value = """
+            select *
+            from v1_outbox_events
+            where status = 'PENDING'
+              and available_at <= :now
+            order by outbox_event_id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from OutboxEvent e
+            where e.id in :ids
+            """)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 실패를 기록하고 {@code availableAt} 이후에 다시 처리되도록 합니다. {@code dead} 면 더 이상 처리하지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.attempts = e.attempts + 1,
+                e.status = case
+                    when :dead = true then com.book.igo.common.outbox.OutboxStatus.DEAD
+                    else com.book.igo.common.outbox.OutboxStatus.PENDING
+                end,
+                e.availableAt = :availableAt,
+                e.lastError = :lastError
+            where e.id = :id
+            """)
+    int recordFailure(
+            @Param("id") Long id,
+            @Param("dead") boolean dead,
+            @Param("availableAt") LocalDateTime availableAt,
+            @Param("lastError") String lastError
+    );
+}
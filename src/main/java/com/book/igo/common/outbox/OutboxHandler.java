@@ -0,0 +1,14 @@
+package com.book.igo.common.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기. 이벤트 종류마다 하나의 빈으로 등록합니다.
+ *
+ * <p>같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 멱등해야 하고,
+ * 실패는 예외로 알려야 재시도됩니다. 같은 대상의 이벤트 간 순서는 보장하지 않습니다.</p>
+ */
+public interface OutboxHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,39 @@
+package com.book.igo.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 현재 트랜잭션에 아웃박스 이벤트를 추가합니다. 요청 경로에는 insert 한 번만 더해지고,
+ * 실제 부수 효과는 커밋 이후 {@link OutboxRelay} 가 처리합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param payload JSON 으로 저장할 값 (없으면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, Long aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.create(eventType, aggregateId, toJson(payload)));
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload serialization failed", e);
+        }
+    }
+}
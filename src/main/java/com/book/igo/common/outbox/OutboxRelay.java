@@ -0,0 +1,149 @@
+package com.book.igo.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 이벤트를 주기적으로 가져와 {@link OutboxHandler} 로 넘깁니다.
+ *
+ * <ul>
+ *   <li>가져오기: 짧은 트랜잭션에서 {@code FOR UPDATE SKIP LOCKED} 로 잠근 뒤 임대 시간만큼 숨기고 커밋 (노드 간 분배)</li>
+ *   <li>처리: 트랜잭션 밖에서 처리기 호출. 성공한 이벤트는 모아서 한 번에 삭제</li>
+ *   <li>재시도: 실패하면 지수 백오프로 미루고, {@code max-attempts} 에 닿으면 DEAD (dead-letter)</li>
+ * </ul>
+ *
+ * <p>처리 중 노드가 죽으면 임대가 끝난 뒤 다른 노드가 다시 처리합니다. (at-least-once)</p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OutboxHandler> handlers;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            List<OutboxHandler> handlers,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.lease-ms:60000}") long leaseMs,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.retry-base-delay-ms:1000}") long retryBaseDelayMs,
+            @Value("${outbox.relay.retry-max-delay-ms:600000}") long retryMaxDelayMs
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(OutboxHandler::eventType, Function.identity()));
+        this.batchSize = batchSize;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMs);
+        this.retryMaxDelay = Duration.ofMillis(retryMaxDelayMs);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            List<OutboxEvent> claimed;
+            do {
+                claimed = claim();
+                dispatch(claimed);
+            } while (claimed.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Outbox relay stopped. reason={}", e.getMessage());
+        }
+    }
+
+    private List<OutboxEvent> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(now, batchSize);
+
+            // 커밋 시 반영되어 잠금이 풀린 뒤에도 임대 시간 동안은 다른 노드가 가져가지 않음
+            LocalDateTime leasedUntil = now.plus(lease);
+            events.forEach(event -> event.lease(leasedUntil));
+            return events;
+        });
+    }
+
+    private void dispatch(List<OutboxEvent> events) {
+        List<Long> done = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            OutboxHandler handler = handlers.get(event.getEventType());
+            if (handler == null) {
+                fail(event, new IllegalStateException("No outbox handler"), true);
+                continue;
+            }
+
+            try {
+                handler.handle(event);
+                done.add(event.getId());
+                count(event, "success");
+            } catch (RuntimeException e) {
+                fail(event, e, event.getAttempts() + 1 >= maxAttempts);
+            }
+        }
+
+        if (!done.isEmpty()) {
+            outboxEventRepository.deleteByIds(done);
+        }
+    }
+
+    private void fail(OutboxEvent event, RuntimeException e, boolean dead) {
+        String error = String.valueOf(e.getMessage());
+        outboxEventRepository.recordFailure(
+                event.getId(),
+                dead,
+                LocalDateTime.now().plus(backoff(event.getAttempts())),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error
+        );
+        count(event, dead ? "dead" : "retry");
+
+        if (dead) {
+            log.error("Outbox event dead-lettered. id={}, type={}, aggregateId={}, attempts={}, reason={}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts() + 1, error);
+        } else {
+            log.warn("Outbox event failed, will retry. id={}, type={}, aggregateId={}, attempts={}, reason={}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts() + 1, error);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        // base * 2^attempts, 상한 retryMaxDelay
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+
+    private void count(OutboxEvent event, String result) {
+        Counter.builder("outbox.relay.dispatched")
+                .tag("type", event.getEventType())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,14 @@
+package com.book.igo.common.outbox;
+
+public enum OutboxStatus {
+
+    /**
+     * 처리 대기 (재시도 대기 포함)
+     */
+    PENDING,
+
+    /**
+     * 재시도 한도 초과. 자동으로 다시 처리하지 않으며 원인 확인 후 PENDING 으로 되돌려 재처리
+     */
+    DEAD
+}
@@ -0,0 +1,25 @@
+package com.book.igo.common.ratelimit;
+
+/**
+ * 토큰 버킷 설정. 두 값 모두 양수여야 합니다. (충전량이 0 이면 키 만료 시간이 무한대가 되어 Redis 스크립트가 매번 실패함)
+ *
+ * @param capacity        최대 토큰 수 (순간 허용량)
+ * @param refillPerMinute 분당 충전 토큰 수 (지속 허용량)
+ */
+public record BucketSpec(
+        long capacity,
+        long refillPerMinute
+) {
+
+    public BucketSpec {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException(
+                    "Rate limit bucket must have positive capacity and refill-per-minute: capacity="
+                            + capacity + ", refillPerMinute=" + refillPerMinute);
+        }
+    }
+
+    public double refillPerMs() {
+        return refillPerMinute / 60_000.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.book.igo.common.ratelimit;
+
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 요청 본문을 한 번 읽어 보관하고, 이후 필터/컨트롤러가 다시 읽을 수 있게 하는 래퍼.
+ *
+ * <p>본문은 {@code maxBodyBytes} 까지만 메모리에 올립니다. {@code Content-Length} 가 상한을 넘으면 읽지 않고,
+ * 길이를 알 수 없는(chunked) 본문은 상한 + 1 바이트까지만 읽어 넘치는지 판단합니다.</p>
+ *
+ * @implNote 인증 API 처럼 본문이 작은 요청에만 사용합니다.
+ */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    /**
+     * @throws AppException 본문이 {@code maxBodyBytes} 를 넘으면 {@link AppErrorCode#PAYLOAD_TOO_LARGE}
+     */
+    public CachedBodyHttpServletRequest(HttpServletRequest request, int maxBodyBytes) throws IOException {
+        super(request);
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            throw new AppException(AppErrorCode.PAYLOAD_TOO_LARGE, maxBodyBytes);
+        }
+
+        byte[] read = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (read.length > maxBodyBytes) {
+            throw new AppException(AppErrorCode.PAYLOAD_TOO_LARGE, maxBodyBytes);
+        }
+        this.body = read;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream source = new ByteArrayInputStream(body);
+
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return source.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * 본문이 이미 메모리에 있으므로 바로 읽기 가능/완료를 알립니다.
+             */
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                Objects.requireNonNull(readListener, "readListener");
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    if (isFinished()) {
+                        readListener.onAllDataRead();
+                    }
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return source.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return source.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+}
@@ -0,0 +1,52 @@
+package com.book.igo.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * 노드 로컬 토큰 버킷. Redis 호출 전에 명백한 폭주(같은 IP 의 초당 수십~수백 요청)를 걸러냅니다.
+ *
+ * <p>공유 버킷보다 느슨하게 설정해 정상 트래픽은 항상 Redis 판정까지 가도록 합니다.</p>
+ */
+public class LocalTokenBucketLimiter {
+
+    private final BucketSpec spec;
+    private final Cache<String, Bucket> buckets;
+
+    public LocalTokenBucketLimiter(BucketSpec spec, long maxKeys) {
+        this.spec = spec;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public boolean tryAcquire(String key) {
+        return buckets.get(key, k -> new Bucket(spec.capacity()))
+                .tryAcquire(spec.capacity(), spec.refillPerMs());
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAtMs;
+
+        private Bucket(long capacity) {
+            this.tokens = capacity;
+            this.updatedAtMs = System.currentTimeMillis();
+        }
+
+        private synchronized boolean tryAcquire(long capacity, double refillPerMs) {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + Math.max(now - updatedAtMs, 0) * refillPerMs);
+            updatedAtMs = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
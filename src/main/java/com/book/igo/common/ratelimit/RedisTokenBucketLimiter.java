@@ -0,0 +1,104 @@
+package com.book.igo.common.ratelimit;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Lua 스크립트 기반 토큰 버킷. 여러 노드가 같은 버킷을 공유합니다.
+ *
+ * <p>IP 버킷과 (선택) 이메일 버킷을 한 번의 왕복으로 함께 확인하고, 둘 다 여유가 있을 때만
+ * 각각 토큰 1개씩 차감합니다. 시간은 노드 간 시계 차이를 없애기 위해 Redis {@code TIME} 을 사용합니다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class RedisTokenBucketLimiter {
+
+    private static final String KEY_PREFIX = "auth:rate-limit:";
+
+    /**
+     * KEYS[1] IP 버킷, KEYS[2] 이메일 버킷(없으면 KEYS[1] 재사용)
+     * ARGV    IP 용량, IP 충전량(토큰/ms), 이메일 용량, 이메일 충전량(토큰/ms), 이메일 사용 여부(1/0)
+     * 반환    0=허용, 1=IP 초과, 2=이메일 초과
+     */
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>(
+            """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local function refill(key, capacity, rate)
+                local state = redis.call('HMGET', key, 'tokens', 'ts')
+                local tokens = tonumber(state[1])
+                local ts = tonumber(state[2])
+                if tokens == nil or ts == nil then
+                    return capacity
+                end
+                return math.min(capacity, tokens + math.max(now - ts, 0) * rate)
+            end
+
+            local function store(key, tokens, capacity, rate)
+                redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+                redis.call('PEXPIRE', key, math.ceil(capacity / rate))
+            end
+
+            local ipCapacity = tonumber(ARGV[1])
+            local ipRate = tonumber(ARGV[2])
+            local ipTokens = refill(KEYS[1], ipCapacity, ipRate)
+            if ipTokens < 1 then
+                return 1
+            end
+
+            local useEmail = ARGV[5] == '1'
+            local emailCapacity = tonumber(ARGV[3])
+            local emailRate = tonumber(ARGV[4])
+            local emailTokens = 0
+            if useEmail then
+                emailTokens = refill(KEYS[2], emailCapacity, emailRate)
+                if emailTokens < 1 then
+                    return 2
+                end
+            end
+
+            store(KEYS[1], ipTokens - 1, ipCapacity, ipRate)
+            if useEmail then
+                store(KEYS[2], emailTokens - 1, emailCapacity, emailRate)
+            end
+            return 0
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+
+    /**
+     * @param email 이메일 버킷을 쓰지 않으면 null
+     */
+    public Decision tryAcquire(String endpoint, String ip, BucketSpec ipSpec, String email, BucketSpec emailSpec) {
+        String ipKey = KEY_PREFIX + endpoint + ":ip:" + ip;
+        String emailKey = email != null ? KEY_PREFIX + endpoint + ":email:" + email : ipKey;
+
+        Long code = template.execute(
+                TAKE_SCRIPT,
+                List.of(ipKey, emailKey),
+                String.valueOf(ipSpec.capacity()),
+                String.valueOf(ipSpec.refillPerMs()),
+                String.valueOf(emailSpec.capacity()),
+                String.valueOf(emailSpec.refillPerMs()),
+                email != null ? "1" : "0"
+        );
+
+        if (code == null || code == 0L) {
+            return Decision.ALLOWED;
+        }
+        return code == 1L ? Decision.IP_LIMITED : Decision.EMAIL_LIMITED;
+    }
+
+    public enum Decision {
+        ALLOWED,
+        IP_LIMITED,
+        EMAIL_LIMITED
+    }
+}
@@ -0,0 +1,127 @@
+package com.book.igo.common.security;
+
+import com.book.igo.common.jwt.JwtTokenProvider;
+import com.book.igo.common.jwt.TokenClaims;
+import com.book.igo.user.domain.entity.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 액세스 토큰 → {@link JwtUserPrincipal} 스냅샷 캐시.
+ *
+ * <p>같은 액세스 토큰이 수명(기본 15분) 동안 반복해서 들어오므로, 최초 1회만 서명을 검증하고
+ * 이후에는 토큰 다이제스트(SHA-256)로 조회합니다.</p>
+ *
+ * <ul>
+ *   <li>키: "Bearer " 제거 후 토큰의 SHA-256 (원문 토큰은 메모리에 남기지 않음)</li>
+ *   <li>만료: 엔트리별로 토큰의 {@code exp} 시각에 정확히 제거</li>
+ *   <li>용량: {@code jwt.cache.max-size} 초과 시 W-TinyLFU 기반 제거</li>
+ * </ul>
+ *
+ * @implNote 캐시는 "서명/만료가 유효하다"는 사실만 보관합니다. 블랙리스트(jti)와 토큰 세대 확인은 캐시 조회 이후
+ * 필터에서 매 요청 수행하므로, 폐기된 토큰이 캐시에 남아 있어도 인증되지 않습니다.
+ */
+@Component
+public class AccessTokenPrincipalCache {
+
+    private static final String CACHE_NAME = "jwt.access-token";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedAccessToken> cache;
+
+    public AccessTokenPrincipalCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에서 검증된 토큰을 찾고, 없으면 검증 후 저장합니다.
+     *
+     * @param accessToken Authorization 헤더 값 또는 순수 토큰
+     * @return 검증된 토큰 스냅샷
+     * @throws com.book.igo.common.jwt.TokenException 검증 실패 시 (실패 결과는 캐시하지 않음)
+     */
+    public VerifiedAccessToken resolve(String accessToken) {
+        String token = jwtTokenProvider.stripBearer(accessToken);
+        return cache.get(digest(token), key -> verify(token));
+    }
+
+    private VerifiedAccessToken verify(String token) {
+        TokenClaims claims = jwtTokenProvider.verifyAccessToken(token);
+
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+                claims.userId(),
+                claims.email(),
+                claims.nickName(),
+                UserRole.valueOf(claims.role()),
+                claims.sessionId()
+        );
+
+        return new VerifiedAccessToken(principal, claims.jti(), claims.expiresAtMs(), claims.tokenEpoch());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 캐시 엔트리: 검증된 principal + 토큰 메타데이터.
+     */
+    public record VerifiedAccessToken(
+            JwtUserPrincipal principal,
+            String jti,
+            long expiresAtMs,
+            long tokenEpoch
+    ) {
+    }
+
+    /**
+     * 엔트리를 토큰의 exp 시각에 만료시키는 정책. 조회/갱신으로는 수명이 늘어나지 않습니다.
+     */
+    private static final class ExpireAtTokenExp implements Expiry<String, VerifiedAccessToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedAccessToken value, long currentTime) {
+            long ttlMs = Math.max(value.expiresAtMs() - System.currentTimeMillis(), 0);
+            return TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedAccessToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedAccessToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.book.igo.common.security;
+
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import com.book.igo.common.ratelimit.BucketSpec;
+import com.book.igo.common.ratelimit.CachedBodyHttpServletRequest;
+import com.book.igo.common.ratelimit.LocalTokenBucketLimiter;
+import com.book.igo.common.ratelimit.RedisTokenBucketLimiter;
+import com.book.igo.common.ratelimit.RedisTokenBucketLimiter.Decision;
+import com.book.igo.common.response.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 로그인/회원가입 API 처리량 제한 필터.
+ *
+ * <p>두 API 는 permitAll 이면서 BCrypt 와 DB 조회를 수행하므로, 크리덴셜 스터핑 같은 폭주에 취약합니다.
+ * 해시/DB 접근 이전에 다음 순서로 판정합니다.</p>
+ * <ol>
+ *   <li>노드 로컬 IP 버킷: 명백한 폭주는 Redis 호출 없이 거절</li>
+ *   <li>Redis IP 버킷 + 이메일 버킷: Lua 스크립트로 한 번에 원자적으로 차감</li>
+ * </ol>
+ *
+ * <p>거절 시 429 와 표준 에러 응답을 반환하고 {@code auth.rate_limit.rejected}(scope, endpoint) 를 증가시킵니다.
+ * Redis 장애 시에는 로컬 버킷만으로 판정합니다(fail-open).</p>
+ *
+ * <p>이메일을 꺼내려고 본문을 메모리에 올리므로, {@code max-body-bytes} 를 넘는 본문은 읽기 전에 413 으로 거절합니다.</p>
+ */
+@Slf4j
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Map<String, String> ENDPOINTS = Map.of(
+            "/api/v1/auth/sign-in", "sign-in",
+            "/api/v1/auth/signup", "signup"
+    );
+
+    private static final String PROBLEM_BASE_URI = "https://your-domain.com/problem/";
+
+    private final RedisTokenBucketLimiter redisLimiter;
+    private final LocalTokenBucketLimiter localLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final BucketSpec ipSpec;
+    private final BucketSpec emailSpec;
+    private final int maxBodyBytes;
+
+    public AuthRateLimitFilter(
+            RedisTokenBucketLimiter redisLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.capacity:20}") long ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-per-minute:20}") long ipRefillPerMinute,
+            @Value("${auth.rate-limit.email.capacity:5}") long emailCapacity,
+            @Value("${auth.rate-limit.email.refill-per-minute:5}") long emailRefillPerMinute,
+            @Value("${auth.rate-limit.local.capacity:40}") long localCapacity,
+            @Value("${auth.rate-limit.local.refill-per-minute:60}") long localRefillPerMinute,
+            @Value("${auth.rate-limit.local.max-keys:100000}") long localMaxKeys,
+            @Value("${auth.rate-limit.max-body-bytes:4096}") int maxBodyBytes
+    ) {
+        this.redisLimiter = redisLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ipSpec = new BucketSpec(ipCapacity, ipRefillPerMinute);
+        this.emailSpec = new BucketSpec(emailCapacity, emailRefillPerMinute);
+        this.maxBodyBytes = maxBodyBytes;
+        this.localLimiter = new LocalTokenBucketLimiter(
+                new BucketSpec(localCapacity, localRefillPerMinute),
+                localMaxKeys
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !ENDPOINTS.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String endpoint = ENDPOINTS.get(request.getRequestURI());
+        String ip = request.getRemoteAddr();
+
+        // 1. 로컬 1차 필터 (Redis 호출 없음)
+        if (!localLimiter.tryAcquire(endpoint + ":" + ip)) {
+            reject(request, response, endpoint, "local");
+            return;
+        }
+
+        // 2. 본문에서 이메일 추출 (이후 컨트롤러가 다시 읽을 수 있도록 캐싱, 크기 상한 초과는 거절)
+        CachedBodyHttpServletRequest cached;
+        try {
+            cached = new CachedBodyHttpServletRequest(request, maxBodyBytes);
+        } catch (AppException e) {
+            writeError(request, response, AppErrorCode.PAYLOAD_TOO_LARGE, e.getMessage());
+            return;
+        }
+        String email = extractEmail(cached.getBody());
+
+        // 3. Redis 공유 버킷 (IP + 이메일)
+        Decision decision;
+        try {
+            decision = redisLimiter.tryAcquire(endpoint, ip, ipSpec, email, emailSpec);
+        } catch (DataAccessException e) {
+            log.warn("Rate limiter unavailable, falling back to local limit: {}", e.getMessage());
+            decision = Decision.ALLOWED;
+        }
+
+        switch (decision) {
+            case IP_LIMITED -> reject(cached, response, endpoint, "ip");
+            case EMAIL_LIMITED -> reject(cached, response, endpoint, "email");
+            case ALLOWED -> filterChain.doFilter(cached, response);
+        }
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            if (!email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // 본문 형식 오류는 컨트롤러의 검증에 맡김 (IP 버킷은 그대로 적용)
+            return null;
+        }
+    }
+
+    private void reject(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String endpoint,
+            String scope
+    ) throws IOException {
+        Counter.builder("auth.rate_limit.rejected")
+                .tag("endpoint", endpoint)
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+
+        AppErrorCode code = AppErrorCode.TOO_MANY_REQUESTS;
+        writeError(request, response, code, code.getMessageTemplate());
+    }
+
+    private void writeError(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AppErrorCode code,
+            String detail
+    ) throws IOException {
+        String title = code.name();
+
+        ErrorResponse body = ErrorResponse.of(
+                PROBLEM_BASE_URI + title.toLowerCase(Locale.ROOT).replace('_', '-'),
+                title,
+                code.getHttpStatus(),
+                detail,
+                request.getRequestURI(),
+                title,
+                null
+        );
+
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
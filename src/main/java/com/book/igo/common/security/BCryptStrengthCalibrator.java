@@ -0,0 +1,46 @@
+package com.book.igo.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 기동 시 현재 하드웨어에서 목표 지연 시간에 맞는 BCrypt strength(cost)를 고릅니다.
+ *
+ * <p>cost 가 1 오를 때마다 해시 시간은 약 2배가 되므로, 최소 cost 에서 한 번 측정한 뒤
+ * 목표 시간을 넘지 않는 가장 큰 cost 를 선택합니다. 보안상 {@link #MIN_STRENGTH} 밑으로는 내려가지 않습니다.</p>
+ */
+@Slf4j
+final class BCryptStrengthCalibrator {
+
+    static final int MIN_STRENGTH = 10; // BCryptPasswordEncoder 기본값
+    static final int MAX_STRENGTH = 14;
+
+    private static final String PROBE = "calibration-Probe-1!";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    static int calibrate(long targetMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode(PROBE); // JIT 워밍업
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            probe.encode(PROBE);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+
+        double estimatedMs = bestNanos / 1_000_000.0;
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && estimatedMs * 2 <= targetMs) {
+            strength++;
+            estimatedMs *= 2;
+        }
+
+        log.info("BCrypt strength calibrated: strength={}, estimated={}ms, target={}ms",
+                strength, Math.round(estimatedMs), targetMs);
+        return strength;
+    }
+}
@@ -1,15 +1,13 @@
 package com.book.igo.common.security;
 
-import com.book.igo.common.jwt.JwtTokenProvider;
 import com.book.igo.common.jwt.TokenException;
-import com.book.igo.user.domain.entity.UserRole;
+import com.book.igo.common.security.AccessTokenPrincipalCache.VerifiedAccessToken;
 import com.book.igo.user.domain.repository.TokenRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenPrincipalCache accessTokenPrincipalCache;
     private final TokenRepository tokenRepository;
 
     @Override
@@ -44,41 +42,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 블랙리스트 체크
-        if (tokenRepository.isAccessTokenBlacklisted(authorizationHeader)) {
-            log.debug("Blacklisted access token: {}", authorizationHeader);
-            // 블랙리스트 토큰은 인증 없이 다음 필터로 진행 (결국 401/403)
-            // 인증 없이 통과 → SecurityContext 비어 있음
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         try {
-            // JwtTokenProvider 안에서 Bearer 제거 + 검증 + 예외 변환까지 수행
-            Long userId = jwtTokenProvider.getUserIdByAccessToken(authorizationHeader);
-            String email = jwtTokenProvider.getEmailByAccessToken(authorizationHeader);
-            String nickName = jwtTokenProvider.getNickNameByAccessToken(authorizationHeader);
-            String roleName = jwtTokenProvider.getUserRoleByAccessToken(authorizationHeader); // "USER"
-            UserRole role = UserRole.valueOf(roleName);
-
-            JwtUserPrincipal principal = new JwtUserPrincipal(userId, email, nickName, role);
-
-            // Spring Security 권한 규칙: "ROLE_" prefix
-            SimpleGrantedAuthority authority =
-                    new SimpleGrantedAuthority("ROLE_" + role.name());
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            principal,
-                            null,
-                            List.of(authority)
-                    );
+            // 캐시 미스일 때만 Bearer 제거 + 서명 검증 (토큰 수명 동안 재검증 없음)
+            VerifiedAccessToken verified = accessTokenPrincipalCache.resolve(authorizationHeader);
 
-            authentication.setDetails(
-                    new WebAuthenticationDetailsSource().buildDetails(request)
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 블랙리스트 체크 (jti 기준, 보통 노드 로컬 near-cache 에서 판정)
+            if (tokenRepository.isAccessTokenBlacklisted(verified.jti(), verified.expiresAtMs())) {
+                log.debug("Blacklisted access token: jti={}", verified.jti());
+                // 블랙리스트 토큰은 인증 없이 다음 필터로 진행 (결국 401/403)
+                // 인증 없이 통과 → SecurityContext 비어 있음
+            } else if (tokenRepository.isStaleTokenEpoch(verified.principal().id(), verified.tokenEpoch())) {
+                // 전체 로그아웃/비밀번호 변경 이전 세대의 토큰 (노드 로컬 세대 캐시에서 판정)
+                log.debug("Stale token epoch: userId={}, ver={}", verified.principal().id(), verified.tokenEpoch());
+            } else {
+                authenticate(request, verified.principal());
+            }
 
         } catch (TokenException ex) {
             log.debug("JWT authentication failed: {}", ex.getErrorCode(), ex);
@@ -86,4 +64,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(HttpServletRequest request, JwtUserPrincipal principal) {
+        // Spring Security 권한 규칙: "ROLE_" prefix
+        SimpleGrantedAuthority authority =
+                new SimpleGrantedAuthority("ROLE_" + principal.role().name());
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        List.of(authority)
+                );
+
+        authentication.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
\ No newline at end of file
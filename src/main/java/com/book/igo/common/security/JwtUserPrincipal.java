@@ -5,11 +5,13 @@ import com.book.igo.user.domain.entity.UserRole;
 /**
  * JWT에서 추출한 현재 로그인 사용자 정보.
  * 컨트롤러에서 @AuthenticationPrincipal JwtUserPrincipal 로 바로 주입 받을 예정.
+ * sessionId 는 토큰이 속한 로그인 세션(기기) ID 입니다.
  */
 public record JwtUserPrincipal(
         Long id,
         String email,
         String nickName,
-        UserRole role
+        UserRole role,
+        String sessionId
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.book.igo.common.security;
+
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비밀번호 해시/검증 전용 워커 풀.
+ *
+ * <p>BCrypt 는 CPU 바운드 작업이라 Tomcat 요청 스레드에서 직접 수행하면 로그인 폭주 시 다른 API 까지 굶게 됩니다.
+ * 고정 크기 워커 + 유한 큐로 동시 해시 수를 제한하고, 큐가 가득 차면 즉시 503 으로 거절합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code auth.password.hash.queue}: 큐 대기 시간 (operation=encode|matches)</li>
+ *   <li>{@code auth.password.hash.duration}: 실제 해시 시간</li>
+ *   <li>{@code auth.password.hash.rejected}: 포화/타임아웃으로 거절된 요청 수 (reason=saturated|timeout)</li>
+ * </ul>
+ *
+ * @implNote 호출부는 DB 트랜잭션(커넥션)을 잡지 않은 상태에서 호출해야 합니다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.hashing.threads:0}") int threads,
+            @Value("${auth.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.hashing.timeout-ms:3000}") long timeoutMs
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 true. 로그인 성공 시 재해시 대상입니다.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(String operation, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                timer("auth.password.hash.queue", operation).record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    timer("auth.password.hash.duration", operation)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reject(operation, "saturated");
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            reject(operation, "timeout");
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private void reject(String operation, String reason) {
+        log.warn("Password hashing rejected: operation={}, reason={}", operation, reason);
+        Counter.builder("auth.password.hash.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
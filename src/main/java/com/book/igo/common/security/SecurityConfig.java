@@ -2,8 +2,10 @@ package com.book.igo.common.security;
 
 
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -21,9 +23,17 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * BCrypt 인코더. {@code auth.password.bcrypt.strength} 를 지정하지 않으면(0) 기동 시
+     * {@code target-ms} 에 맞춰 strength 를 보정합니다. 더 낮은 cost 로 저장된 해시는 로그인 성공 시 재해시됩니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.password.bcrypt.strength:0}") int strength,
+            @Value("${auth.password.bcrypt.target-ms:250}") long targetMs
+    ) {
+        int resolved = strength > 0 ? strength : BCryptStrengthCalibrator.calibrate(targetMs);
+        return new BCryptPasswordEncoder(resolved);
     }
 
     /**
@@ -33,7 +43,8 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            JwtAuthenticationFilter jwtAuthenticationFilter
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            AuthRateLimitFilter authRateLimitFilter
     ) throws Exception {
 
         http
@@ -54,6 +65,10 @@ public class SecurityConfig {
 
                 // URL 별 인가 규칙
                 .authorizeHttpRequests(auth -> auth
+                        // 인증이 필요한 인증 API (아래 /api/v1/auth/** 허용보다 먼저 매칭)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout-all").authenticated()
+                        .requestMatchers("/api/v1/auth/sessions/**").authenticated()
+
                         // 인증 없이 누구나 접근 가능한 엔드포인트
                         .requestMatchers(
                                 "/api/v1/auth/**",    // 회원가입, 로그인, 토큰 재발급 등
@@ -73,6 +88,9 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 );
 
+        // 로그인/회원가입 처리량 제한: 해시/DB 접근 이전, 인증 필터보다 먼저 실행
+        http.addFilterBefore(authRateLimitFilter, UsernamePasswordAuthenticationFilter.class);
+
         // ⚠️ JwtAuthenticationFilter를 addFilterBefore(...)로 추가
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -1,6 +1,7 @@
 package com.book.igo.follow.domain.entity;
 
 import com.book.igo.common.domain.BaseTimeEntity;
+import com.book.igo.common.domain.IdGeneration;
 import com.book.igo.user.domain.entity.User;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -21,7 +23,12 @@ import lombok.NoArgsConstructor;
 public class Follow extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_id_seq")
+    @SequenceGenerator(
+            name = "follow_id_seq",
+            sequenceName = "v1_follows_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
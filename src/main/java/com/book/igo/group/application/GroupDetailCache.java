@@ -0,0 +1,242 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.application.dto.response.GetGroupResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 모임 상세 응답({@link GetGroupResponse}) 2단 캐시.
+ *
+ * <ul>
+ *   <li>L1: 노드 로컬 Caffeine. 같은 키의 동시 미스는 한 번만 적재(single-flight)</li>
+ *   <li>L2: Redis 에 JSON 으로 저장해 노드 간 공유. 장애 시 DB 로 바로 적재</li>
+ *   <li>무효화: {@link #evict(Long)} 가 커밋 이후 L2 삭제 + pub/sub 으로 모든 노드의 L1 제거</li>
+ *   <li>세대: 무효화마다 모임별 세대 값을 올리고, DB 적재 결과는 적재 전에 읽은 세대가 그대로일 때만 L2 에 저장.
+ *       무효화와 엇갈린 적재가 변경 전 값을 L2 에 되살려 {@code redis-ttl} 동안 모든 노드에 퍼뜨리지 않도록 함</li>
+ * </ul>
+ *
+ * @implNote 모임을 변경하는 쓰기 트랜잭션은 {@link GroupDetailChangedHandler#TYPE} 아웃박스 이벤트를 남겨야 합니다.
+ * {@link #evict(Long)} 는 트랜잭션 밖에서 바뀐 값(파생 이미지 등)을 반영할 때 사용합니다.
+ */
+@Slf4j
+@Component
+public class GroupDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "group:detail:";
+    private static final String GENERATION_KEY_PREFIX = "group:detail:gen:";
+    private static final String NO_GENERATION = "0";
+    private static final String CHANNEL = "group:detail:events";
+    private static final String CACHE_NAME = "group.detail";
+
+    /**
+     * 세대를 올리고 L2 를 지웁니다. 세대 키는 진행 중인 적재보다 오래 남도록 L2 TTL 만큼 유지합니다.
+     *
+     * <pre>
+     * KEYS[1] = 상세 키, KEYS[2] = 세대 키
+     * ARGV[1] = 세대 키 TTL(ms)
+     * </pre>
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            """
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """,
+            Long.class
+    );
+
+    /**
+     * 적재 전에 읽은 세대가 그대로일 때만 L2 에 저장합니다. 저장했으면 1, 그 사이 무효화됐으면 0.
+     *
+     * <pre>
+     * KEYS[1] = 상세 키, KEYS[2] = 세대 키
+     * ARGV[1] = 적재 전 세대, ARGV[2] = JSON, ARGV[3] = TTL(ms)
+     * </pre>
+     */
+    private static final RedisScript<Long> WRITE_IF_CURRENT_SCRIPT = new DefaultRedisScript<>(
+            """
+            local current = redis.call('GET', KEYS[2]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, GetGroupResponse> local;
+    private final Duration redisTtl;
+
+    public GroupDetailCache(
+            StringRedisTemplate template,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${group.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${group.cache.local.expire-after-write-ms:30000}") long localExpireAfterWriteMs,
+            @Value("${group.cache.redis-ttl-ms:300000}") long redisTtlMs
+    ) {
+        this.template = template;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localExpireAfterWriteMs, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회합니다. loader 결과는 L2/L1 모두에 저장됩니다.
+     *
+     * @param loader DB 적재 함수 (없으면 예외를 던져야 하며, 예외는 캐시하지 않음)
+     */
+    public GetGroupResponse get(Long groupId, Function<Long, GetGroupResponse> loader) {
+        return local.get(groupId, id -> {
+            L2Entry cached = readRedis(id);
+            if (cached.response() != null) {
+                return cached.response();
+            }
+
+            GetGroupResponse loaded = loader.apply(id);
+            writeRedis(id, cached.generation(), loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 모임 변경 시 두 단계 캐시를 모두 무효화합니다. 트랜잭션 안이면 커밋 이후에 수행하며, 실패는 로그만 남깁니다.
+     */
+    public void evict(Long groupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictQuietly(groupId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictQuietly(groupId);
+            }
+        });
+    }
+
+    /**
+     * 즉시 무효화합니다. L2 삭제/전파에 실패하면 예외를 던집니다. (아웃박스 재시도용)
+     */
+    public void evictNow(Long groupId) {
+        local.invalidate(groupId);
+        template.execute(EVICT_SCRIPT, List.of(key(groupId), generationKey(groupId)),
+                String.valueOf(redisTtl.toMillis()));
+        template.convertAndSend(CHANNEL, String.valueOf(groupId));
+    }
+
+    private void evictQuietly(Long groupId) {
+        try {
+            evictNow(groupId);
+        } catch (DataAccessException e) {
+            // L2 는 TTL 로 결국 만료되므로 요청은 실패시키지 않음
+            log.warn("Group detail cache eviction failed. groupId={}, reason={}", groupId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            local.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed group detail event: {}", body);
+        }
+    }
+
+    /**
+     * L2 값과 현재 세대를 한 번에 읽습니다. Redis 장애 시 세대는 null (적재 결과를 L2 에 쓰지 않음)
+     */
+    private L2Entry readRedis(Long groupId) {
+        List<String> values;
+        try {
+            values = template.opsForValue().multiGet(List.of(key(groupId), generationKey(groupId)));
+        } catch (DataAccessException e) {
+            log.warn("Group detail L2 read failed. groupId={}, reason={}", groupId, e.getMessage());
+            return new L2Entry(null, null);
+        }
+        if (values == null) {
+            return new L2Entry(null, null);
+        }
+
+        String generation = values.get(1) != null ? values.get(1) : NO_GENERATION;
+        String json = values.get(0);
+        if (json == null) {
+            return new L2Entry(null, generation);
+        }
+        try {
+            return new L2Entry(objectMapper.readValue(json, GetGroupResponse.class), generation);
+        } catch (JsonProcessingException e) {
+            log.warn("Group detail L2 read failed. groupId={}, reason={}", groupId, e.getMessage());
+            return new L2Entry(null, generation);
+        }
+    }
+
+    private void writeRedis(Long groupId, String generation, GetGroupResponse response) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            Long written = template.execute(
+                    WRITE_IF_CURRENT_SCRIPT,
+                    List.of(key(groupId), generationKey(groupId)),
+                    generation,
+                    objectMapper.writeValueAsString(response),
+                    String.valueOf(redisTtl.toMillis())
+            );
+            if (written == null || written == 0) {
+                log.debug("Skipping stale group detail L2 write. groupId={}", groupId);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Group detail L2 write failed. groupId={}, reason={}", groupId, e.getMessage());
+        }
+    }
+
+    private static String key(Long groupId) {
+        return KEY_PREFIX + groupId;
+    }
+
+    private static String generationKey(Long groupId) {
+        return GENERATION_KEY_PREFIX + groupId;
+    }
+
+    /**
+     * L2 조회 결과. {@code generation} 은 조회 시점의 무효화 세대 (Redis 장애 시 null)
+     */
+    private record L2Entry(GetGroupResponse response, String generation) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.book.igo.group.application;
+
+import com.book.igo.common.outbox.OutboxEvent;
+import com.book.igo.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임 상세 캐시 무효화. 실패(Redis 장애)하면 아웃박스가 재시도합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class GroupDetailChangedHandler implements OutboxHandler {
+
+    public static final String TYPE = "GROUP_DETAIL_CHANGED";
+
+    private final GroupDetailCache groupDetailCache;
+
+    @Override
+    public String eventType() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        groupDetailCache.evictNow(event.getAggregateId());
+    }
+}
@@ -0,0 +1,44 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.repository.GroupFeedItem;
+import com.book.igo.group.infrastructure.exception.GroupErrorCode;
+import com.book.igo.group.infrastructure.exception.GroupException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 keyset 커서: 마지막으로 받은 모임의 (start_time, group_id).
+ *
+ * <p>클라이언트에는 Base64URL 로 인코딩한 불투명 문자열로만 노출합니다.</p>
+ */
+record GroupFeedCursor(LocalDateTime startTime, Long groupId) {
+
+    private static final char SEPARATOR = '_';
+
+    static GroupFeedCursor from(GroupFeedItem item) {
+        return new GroupFeedCursor(item.startTime(), item.id());
+    }
+
+    static GroupFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx <= 0) {
+                throw new GroupException(GroupErrorCode.INVALID_CURSOR);
+            }
+            return new GroupFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GroupException(GroupErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    String encode() {
+        String raw = startTime.toString() + SEPARATOR + groupId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,377 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.application.dto.request.NearbySort;
+import com.book.igo.group.domain.repository.GroupGeoSource;
+import com.book.igo.group.domain.repository.GroupRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 아직 끝나지 않은 모임의 위경도 격자(grid) 색인.
+ *
+ * <p>위경도를 {@code cell-size-deg} 크기 칸으로 나눠 칸마다 모임 목록을 두고, 검색 영역에 걸친 칸만 훑은 뒤
+ * 실제 거리(haversine)로 거릅니다. 피드 projection 을 함께 들고 있어 검색 시 DB 를 조회하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>적재: 기동 완료 후, 이후 {@code rebuild-interval-ms} 마다 좌표가 있는 진행 예정 모임을 id keyset 으로
+ *       끊어 읽어 새 격자를 만든 뒤 교체 (동기화 이벤트 유실, 다른 노드의 참여 인원 변동 복구)</li>
+ *   <li>갱신: 모임 생성/삭제 트랜잭션이 커밋된 뒤 {@link #addAfterCommit}/{@link #removeAfterCommit} 로 반영.
+ *       다른 노드의 변경은 {@link GroupIndexSync} 가 트랜잭션 밖에서 같은 메서드로 반영</li>
+ *   <li>만료: 검색 시 종료된 모임은 거르고, {@code prune-interval-ms} 마다 격자에서 제거</li>
+ *   <li>동시성: 읽기는 read lock, 갱신/교체는 write lock. 적재 중 들어온 갱신은 교체 직후 다시 반영
+ *       (모든 갱신은 절대값이라 적재 결과에 이미 들어 있어도 다시 반영해도 같음)</li>
+ * </ul>
+ *
+ * @implNote 경도 ±180 (날짜 변경선)을 가로지르는 영역은 지원하지 않습니다.
+ */
+@Slf4j
+@Component
+public class GroupGeoIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_320.0;
+
+    private static final Comparator<Match> BY_DISTANCE = Comparator
+            .comparingDouble(Match::distanceMeters)
+            .thenComparing(match -> match.source().startTime())
+            .thenComparing(match -> match.source().id());
+
+    private static final Comparator<Match> BY_START_TIME = Comparator
+            .<Match, LocalDateTime>comparing(match -> match.source().startTime())
+            .thenComparingDouble(Match::distanceMeters)
+            .thenComparing(match -> match.source().id());
+
+    private final GroupRepository groupRepository;
+    private final double cellSizeDeg;
+    private final int loadBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 으로 보호
+    private Grid grid;
+    private boolean ready = false;
+    private List<Consumer<Grid>> pendingDuringLoad = null;
+
+    public GroupGeoIndex(
+            GroupRepository groupRepository,
+            @Value("${group.geo-index.cell-size-deg:0.01}") double cellSizeDeg,
+            @Value("${group.geo-index.load-batch-size:10000}") int loadBatchSize
+    ) {
+        this.groupRepository = groupRepository;
+        this.cellSizeDeg = cellSizeDeg;
+        this.loadBatchSize = loadBatchSize;
+        this.grid = new Grid(cellSizeDeg);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${group.geo-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${group.geo-index.rebuild-interval-ms:600000}"
+    )
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Grid loaded = new Grid(cellSizeDeg);
+
+        long afterId = 0L;
+        while (true) {
+            List<GroupGeoSource> batch =
+                    groupRepository.findUpcomingGeoSourcesAfter(now, afterId, Limit.of(loadBatchSize));
+            batch.forEach(loaded::put);
+
+            if (batch.size() < loadBatchSize) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).id();
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad.forEach(change -> change.accept(loaded));
+            grid = loaded;
+            pendingDuringLoad = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Group geo index loaded: groups={}, cells={}, took={}ms",
+                loaded.byId.size(), loaded.cells.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모임을 색인에 추가(또는 교체)합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void addAfterCommit(GroupGeoSource source) {
+        runAfterCommit(target -> target.put(source));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모임을 색인에서 제거합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void removeAfterCommit(Long groupId) {
+        runAfterCommit(target -> target.remove(groupId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 색인에 있는 모임의 참여 인원을 주어진 값으로 바꿉니다. (색인에 없는 모임은 무시)
+     *
+     * @param participantCount 트랜잭션 안에서 갱신 직후 읽은 참여 인원 (증감값이 아님)
+     */
+    public void setParticipantsAfterCommit(Long groupId, int participantCount) {
+        runAfterCommit(target -> target.setParticipants(groupId, participantCount));
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중심에서 반경 {@code radiusMeters} 안에 있는 진행 예정 모임을 {@code sort} 순으로 최대 {@code limit} 개 반환합니다.
+     */
+    public List<Match> withinRadius(double latitude, double longitude, double radiusMeters, NearbySort sort, int limit) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LATITUDE;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+
+        return scan(
+                latitude - latDelta, longitude - lngDelta,
+                latitude + latDelta, longitude + lngDelta,
+                latitude, longitude, radiusMeters, sort, limit
+        );
+    }
+
+    /**
+     * 영역 안의 진행 예정 모임을 {@code sort} 순으로 최대 {@code limit} 개 반환합니다. 거리는 영역 중앙 기준입니다.
+     */
+    public List<Match> withinBox(
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            NearbySort sort,
+            int limit
+    ) {
+        return scan(
+                minLatitude, minLongitude, maxLatitude, maxLongitude,
+                (minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2,
+                Double.POSITIVE_INFINITY, sort, limit
+        );
+    }
+
+    /**
+     * 종료된 모임을 격자에서 제거합니다. (검색 시에도 거르므로 메모리 회수 목적)
+     */
+    @Scheduled(
+            initialDelayString = "${group.geo-index.prune-interval-ms:60000}",
+            fixedDelayString = "${group.geo-index.prune-interval-ms:60000}"
+    )
+    public void pruneEnded() {
+        LocalDateTime now = LocalDateTime.now();
+
+        lock.writeLock().lock();
+        try {
+            List<Long> ended = grid.byId.values().stream()
+                    .filter(source -> !source.endTime().isAfter(now))
+                    .map(GroupGeoSource::id)
+                    .toList();
+            ended.forEach(grid::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 한 건.
+     */
+    public record Match(GroupGeoSource source, double distanceMeters) {
+    }
+
+    private List<Match> scan(
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            double centerLatitude,
+            double centerLongitude,
+            double radiusMeters,
+            NearbySort sort,
+            int limit
+    ) {
+        Comparator<Match> order = sort == NearbySort.START_TIME ? BY_START_TIME : BY_DISTANCE;
+        // 상위 limit 개만 유지 (가장 뒤 순위가 head 인 힙)
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, order.reversed());
+        LocalDateTime now = LocalDateTime.now();
+
+        lock.readLock().lock();
+        try {
+            long minLatCell = grid.cellIndex(Math.max(minLatitude, -90.0) + 90.0);
+            long maxLatCell = grid.cellIndex(Math.min(maxLatitude, 90.0) + 90.0);
+            long minLngCell = grid.cellIndex(Math.max(minLongitude, -180.0) + 180.0);
+            long maxLngCell = grid.cellIndex(Math.min(maxLongitude, 180.0) + 180.0);
+            long cellCount = (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+            // 넓은 영역이라 훑을 칸이 모임 수보다 많으면 전체 목록을 한 번 훑는 편이 빠름
+            List<Collection<GroupGeoSource>> buckets;
+            if (cellCount > grid.byId.size()) {
+                buckets = List.of(grid.byId.values());
+            } else {
+                buckets = new ArrayList<>();
+                for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                        List<GroupGeoSource> bucket = grid.cells.get(Grid.key(latCell, lngCell));
+                        if (bucket != null) {
+                            buckets.add(bucket);
+                        }
+                    }
+                }
+            }
+
+            for (Collection<GroupGeoSource> bucket : buckets) {
+                for (GroupGeoSource source : bucket) {
+                    if (source.latitude() < minLatitude || source.latitude() > maxLatitude
+                            || source.longitude() < minLongitude || source.longitude() > maxLongitude
+                            || !source.endTime().isAfter(now)) {
+                        continue;
+                    }
+
+                    double distance = haversineMeters(
+                            centerLatitude, centerLongitude, source.latitude(), source.longitude());
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+
+                    top.offer(new Match(source, distance));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> result = new ArrayList<>(top);
+        result.sort(order);
+        return result;
+    }
+
+    private void runAfterCommit(Consumer<Grid> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Consumer<Grid> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(grid);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 격자 칸 → 모임 목록, 모임 id → 모임. (외부 lock 으로 보호)
+     */
+    private static final class Grid {
+
+        private final double cellSizeDeg;
+        private final Map<Long, List<GroupGeoSource>> cells = new HashMap<>();
+        private final Map<Long, GroupGeoSource> byId = new HashMap<>();
+
+        private Grid(double cellSizeDeg) {
+            this.cellSizeDeg = cellSizeDeg;
+        }
+
+        private void put(GroupGeoSource source) {
+            remove(source.id());
+            byId.put(source.id(), source);
+            cells.computeIfAbsent(cellOf(source), key -> new ArrayList<>()).add(source);
+        }
+
+        private void setParticipants(Long groupId, int participantCount) {
+            GroupGeoSource previous = byId.get(groupId);
+            if (previous != null) {
+                put(previous.withParticipantCount(participantCount));
+            }
+        }
+
+        private void remove(Long groupId) {
+            GroupGeoSource previous = byId.remove(groupId);
+            if (previous == null) {
+                return;
+            }
+
+            long key = cellOf(previous);
+            List<GroupGeoSource> bucket = cells.get(key);
+            if (bucket != null) {
+                bucket.removeIf(source -> source.id().equals(groupId));
+                if (bucket.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+
+        private long cellOf(GroupGeoSource source) {
+            return key(cellIndex(source.latitude() + 90.0), cellIndex(source.longitude() + 180.0));
+        }
+
+        private long cellIndex(double shiftedDegrees) {
+            return (long) Math.floor(shiftedDegrees / cellSizeDeg);
+        }
+
+        private static long key(long latCell, long lngCell) {
+            return (latCell << 32) | (lngCell & 0xffffffffL);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.application.ImageStorageService.ObjectPage;
+import com.book.igo.group.application.ImageStorageService.ObjectSummary;
+import com.book.igo.group.domain.repository.GroupImageRepository;
+import com.book.igo.group.domain.repository.GroupImageRefs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+
+/**
+ * {@code groups/} 아래에서 어떤 {@code GroupImage} 도 가리키지 않는 객체(고아)를 주기적으로 지웁니다.
+ *
+ * <p>업로드는 성공했지만 DB 기록이 롤백/실패한 경우, 발급만 받고 확정하지 않은 직접 업로드 등이 대상입니다.</p>
+ *
+ * <ul>
+ *   <li>스토리지 목록을 페이지 단위로 읽고, 페이지에 나온 모임들의 이미지 URL(원본/파생본)만 한 번에 조회</li>
+ *   <li>두 키 목록을 같은 순서로 정렬해 병합하며 비교 (전체 목록을 메모리에 올리지 않음)</li>
+ *   <li>마지막 수정 후 유예 시간이 지난 고아만 모아 {@link ImageStorageService#deleteObjects} 로 일괄 삭제</li>
+ *   <li>{@code group.image.orphan.reclaimed}: 회수한 바이트 수</li>
+ *   <li>{@code group.image.orphan.unmapped}: URL 을 키로 바꾸지 못해 건너뛴 모임 수</li>
+ * </ul>
+ *
+ * <p>저장된 URL 중 하나라도 현재 {@code aws.s3.public-base-url} 로 키를 얻지 못하면 (도메인/CDN 변경 등)
+ * 그 모임의 객체는 고아로 판단할 수 없으므로 이번 점검에서 지우지 않습니다.</p>
+ *
+ * @implNote 유예 시간은 presigned URL 유효 시간과 업로드~확정 사이 시간보다 충분히 길어야 합니다.
+ */
+@Slf4j
+@Component
+public class GroupImageOrphanSweeper {
+
+    private static final String GROUP_PREFIX = "groups/";
+
+    private final GroupImageRepository groupImageRepository;
+    private final ImageStorageService imageStorageService;
+    private final Counter reclaimedBytes;
+    private final Counter deletedObjects;
+    private final Counter unmappedGroups;
+    private final Duration gracePeriod;
+    private final int pageSize;
+
+    public GroupImageOrphanSweeper(
+            GroupImageRepository groupImageRepository,
+            ImageStorageService imageStorageService,
+            MeterRegistry meterRegistry,
+            @Value("${group.image-orphan.grace-period-ms:86400000}") long gracePeriodMs,
+            @Value("${group.image-orphan.page-size:1000}") int pageSize
+    ) {
+        this.groupImageRepository = groupImageRepository;
+        this.imageStorageService = imageStorageService;
+        this.gracePeriod = Duration.ofMillis(gracePeriodMs);
+        this.pageSize = pageSize;
+        this.reclaimedBytes = Counter.builder("group.image.orphan.reclaimed")
+                .description("고아 이미지 정리로 회수한 스토리지 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.deletedObjects = Counter.builder("group.image.orphan.deleted")
+                .description("정리한 고아 이미지 객체 수")
+                .register(meterRegistry);
+        this.unmappedGroups = Counter.builder("group.image.orphan.unmapped")
+                .description("URL 을 키로 바꾸지 못해 고아 점검에서 제외한 모임 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${group.image-orphan.sweep-interval-ms:21600000}",
+            fixedDelayString = "${group.image-orphan.sweep-interval-ms:21600000}"
+    )
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        Map<String, Long> pending = new HashMap<>();
+        long scanned = 0;
+        long reclaimed = 0;
+
+        try {
+            String token = null;
+            do {
+                ObjectPage page = imageStorageService.listGroupObjects(token, pageSize);
+                for (ObjectSummary orphan : findOrphans(page.objects())) {
+                    if (orphan.lastModified().isBefore(cutoff)) {
+                        pending.put(orphan.key(), orphan.size());
+                    }
+                }
+                scanned += page.objects().size();
+
+                if (pending.size() >= ImageStorageService.MAX_DELETE_BATCH) {
+                    reclaimed += delete(pending);
+                }
+                token = page.nextToken();
+            } while (token != null);
+
+            reclaimed += delete(pending);
+        } catch (SdkException | DataAccessException e) {
+            log.warn("Orphan image sweep stopped. scanned={}, reason={}", scanned, e.getMessage());
+        }
+
+        log.info("Orphan image sweep finished. scanned={}, reclaimedBytes={}", scanned, reclaimed);
+    }
+
+    /**
+     * 한 페이지의 객체 중 DB 에 없는 객체. 페이지 키와 DB 키를 같은 순서로 정렬해 한 번씩만 훑습니다.
+     *
+     * <p>키로 바꾸지 못한 URL 이 있는 모임의 객체는 후보에서 뺍니다. (지우면 되돌릴 수 없으므로 판단 불가 = 보존)</p>
+     */
+    private List<ObjectSummary> findOrphans(List<ObjectSummary> objects) {
+        Set<Long> groupIds = new HashSet<>();
+        List<ObjectSummary> candidates = new ArrayList<>();
+        for (ObjectSummary object : objects) {
+            Long groupId = groupIdOf(object.key());
+            // groups/<id>/ 형식이 아닌 키는 이 점검의 대상이 아님
+            if (groupId != null) {
+                groupIds.add(groupId);
+                candidates.add(object);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        TreeSet<String> knownKeys = new TreeSet<>();
+        Set<Long> unmapped = new HashSet<>();
+        for (GroupImageRefs image : groupImageRepository.findImagesByGroupIdIn(groupIds)) {
+            for (String url : new String[]{image.imageUrl(), image.mediumUrl(), image.thumbnailUrl()}) {
+                if (url == null) {
+                    continue;
+                }
+                Optional<String> key = imageStorageService.keyOf(url);
+                if (key.isPresent()) {
+                    knownKeys.add(key.get());
+                } else if (unmapped.add(image.groupId())) {
+                    log.warn("Orphan sweep skipped group with unmapped image url. groupId={}, url={}",
+                            image.groupId(), url);
+                }
+            }
+        }
+        if (!unmapped.isEmpty()) {
+            unmappedGroups.increment(unmapped.size());
+            candidates.removeIf(object -> unmapped.contains(groupIdOf(object.key())));
+        }
+
+        candidates.sort(Comparator.comparing(ObjectSummary::key));
+        List<ObjectSummary> orphans = new ArrayList<>();
+        Iterator<String> known = knownKeys.iterator();
+        String current = known.hasNext() ? known.next() : null;
+
+        for (ObjectSummary object : candidates) {
+            while (current != null && current.compareTo(object.key()) < 0) {
+                current = known.hasNext() ? known.next() : null;
+            }
+            if (current == null || !current.equals(object.key())) {
+                orphans.add(object);
+            }
+        }
+        return orphans;
+    }
+
+    /**
+     * @return 회수한 바이트 수
+     */
+    private long delete(Map<String, Long> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<String> failed = imageStorageService.deleteObjects(new ArrayList<>(pending.keySet()));
+        failed.forEach(pending::remove);
+
+        long bytes = pending.values().stream().mapToLong(Long::longValue).sum();
+        reclaimedBytes.increment(bytes);
+        deletedObjects.increment(pending.size());
+        log.info("Orphan images deleted. count={}, bytes={}, failed={}", pending.size(), bytes, failed.size());
+
+        pending.clear();
+        return bytes;
+    }
+
+    private static Long groupIdOf(String key) {
+        int end = key.indexOf('/', GROUP_PREFIX.length());
+        if (!key.startsWith(GROUP_PREFIX) || end < 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(key.substring(GROUP_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
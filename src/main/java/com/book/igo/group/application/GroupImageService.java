@@ -0,0 +1,204 @@
+package com.book.igo.group.application;
+
+import com.book.igo.common.exception.AppException;
+import com.book.igo.common.outbox.OutboxPublisher;
+import com.book.igo.group.application.ImageStorageService.StoredObject;
+import com.book.igo.group.application.dto.request.ConfirmGroupImagesRequest;
+import com.book.igo.group.application.dto.request.PresignGroupImagesRequest;
+import com.book.igo.group.application.dto.response.PresignedImageResponse;
+import com.book.igo.group.domain.entity.Group;
+import com.book.igo.group.domain.entity.GroupImage;
+import com.book.igo.group.domain.repository.GroupImageRepository;
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.infrastructure.exception.GroupErrorCode;
+import com.book.igo.group.infrastructure.exception.GroupException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 모임 이미지 등록.
+ *
+ * <p>오브젝트 스토리지 I/O 는 모두 트랜잭션 밖에서 수행하고, DB 에는 검증이 끝난 키만 짧은 트랜잭션으로 기록합니다.</p>
+ *
+ * <ol>
+ *   <li>{@link #presign}: 호스트에게 모임 전용 경로의 presigned PUT URL 발급 (서명만, 네트워크 호출 없음)</li>
+ *   <li>클라이언트가 스토리지에 직접 업로드</li>
+ *   <li>{@link #confirm}: HEAD 로 업로드/크기/형식을 확인한 뒤 {@link GroupImage} 로 등록</li>
+ *   <li>등록과 같은 트랜잭션에 아웃박스 이벤트를 남기고, 커밋 후 {@link GroupImagesAttachedHandler} 가
+ *       캐시 무효화와 썸네일/중간 크기 파생본 생성을 요청</li>
+ * </ol>
+ *
+ * <p>multipart 로 받은 이미지({@link #uploadAndAttach})도 모임 생성 트랜잭션이 커밋된 뒤 같은 방식으로 등록합니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class GroupImageService {
+
+    private static final int MAX_IMAGES_PER_GROUP = 10;
+    private static final Map<String, String> EXTENSION_BY_CONTENT_TYPE = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/webp", ".webp",
+            "image/gif", ".gif"
+    );
+
+    private final GroupRepository groupRepository;
+    private final GroupImageRepository groupImageRepository;
+    private final ImageStorageService imageStorageService;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${aws.s3.max-image-bytes:10485760}")
+    private long maxImageBytes;
+
+
+    public List<PresignedImageResponse> presign(Long userId, Long groupId, PresignGroupImagesRequest request) {
+        findHostedGroup(userId, groupId);
+
+        int nextOrder = groupImageRepository.findMaxSortOrder(groupId) + 1;
+        checkImageCount(nextOrder + request.files().size());
+
+        List<PresignedImageResponse> responses = new ArrayList<>();
+        for (int i = 0; i < request.files().size(); i++) {
+            PresignGroupImagesRequest.ImageFile file = request.files().get(i);
+            String contentType = normalizeContentType(file.contentType());
+            checkImage(contentType, file.size());
+
+            responses.add(PresignedImageResponse.from(imageStorageService.presignGroupImageUpload(
+                    groupId, nextOrder + i, EXTENSION_BY_CONTENT_TYPE.get(contentType), contentType, file.size())));
+        }
+        return responses;
+    }
+
+    /**
+     * 직접 업로드한 이미지를 모임에 등록합니다. 이미 등록된 키는 건너뜁니다.
+     *
+     * @return 등록 후 모임 이미지 URL (정렬 순)
+     */
+    public List<String> confirm(Long userId, Long groupId, ConfirmGroupImagesRequest request) {
+        Group group = findHostedGroup(userId, groupId);
+
+        Set<String> attached = new HashSet<>(groupImageRepository.findImageUrlsByGroupId(groupId));
+        List<String> urls = new ArrayList<>();
+        for (String key : request.keys().stream().distinct().toList()) {
+            if (!imageStorageService.isGroupImageKey(groupId, key)) {
+                throw new GroupException(GroupErrorCode.IMAGE_NOT_UPLOADED, key);
+            }
+            String url = imageStorageService.urlOf(key);
+            if (attached.contains(url)) {
+                continue;
+            }
+
+            // 트랜잭션 밖에서 HEAD 로 확인 (DB 커넥션을 잡지 않음)
+            StoredObject object = imageStorageService.findObject(key)
+                    .orElseThrow(() -> new GroupException(GroupErrorCode.IMAGE_NOT_UPLOADED, key));
+            checkImage(normalizeContentType(object.contentType()), object.size());
+            urls.add(url);
+        }
+
+        attach(group, urls, groupImageRepository.findMaxSortOrder(groupId) + 1);
+        return groupImageRepository.findImageUrlsByGroupId(groupId);
+    }
+
+    /**
+     * multipart 로 받은 이미지를 업로드한 뒤 모임에 등록합니다. 모임 생성 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+     *
+     * <p>업로드나 등록이 실패하면 이미 올라간 객체를 지우고 예외를 던집니다. 모임은 이미지 없이 남으며
+     * presigned 업로드로 다시 등록할 수 있습니다.</p>
+     *
+     * @return 등록된 이미지 URL (정렬 순)
+     */
+    public List<String> uploadAndAttach(Long groupId, List<MultipartFile> imageFiles) {
+        List<MultipartFile> files = imageFiles == null ? List.of() : imageFiles.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        checkImageCount(files.size());
+
+        List<ImageStorageService.UploadedImage> uploaded = List.of();
+        try {
+            // 동시 업로드. 일부만 실패하면 업로드 쪽에서 이미 올라간 객체를 지우고 예외를 던짐
+            uploaded = imageStorageService.uploadGroupImages(groupId, files);
+            List<String> urls = uploaded.stream().map(ImageStorageService.UploadedImage::url).toList();
+
+            attach(groupRepository.getReferenceById(groupId), urls, 0);
+            return urls;
+        } catch (RuntimeException e) {
+            // 등록 실패 시 업로드된 이미지들 삭제 (보상)
+            imageStorageService.deleteObjects(uploaded.stream().map(ImageStorageService.UploadedImage::key).toList());
+            log.warn("Group image upload failed. groupId={}, uploaded={}, reason={}",
+                    groupId, uploaded.size(), e.getMessage());
+            if (e instanceof AppException) {
+                throw e;
+            }
+            throw new GroupException(GroupErrorCode.IMAGE_UPLOAD_FAILED, e);
+        }
+    }
+
+    private void attach(Group group, List<String> urls, int startOrder) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        checkImageCount(startOrder + urls.size());
+
+        List<GroupImage> images = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            images.add(GroupImage.attach(group, urls.get(i), startOrder + i));
+        }
+
+        // 짧은 트랜잭션으로 이미지 + 아웃박스 이벤트(캐시 무효화, 파생본 생성)를 함께 기록
+        transactionTemplate.executeWithoutResult(status -> {
+            List<GroupImage> saved = groupImageRepository.saveAll(images);
+            outboxPublisher.publish(
+                    GroupImagesAttachedHandler.TYPE,
+                    group.getId(),
+                    saved.stream().map(GroupImage::getId).toList()
+            );
+        });
+    }
+
+    private Group findHostedGroup(Long userId, Long groupId) {
+        Group group = groupRepository.findById(groupId)
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND, groupId));
+
+        // 호스트 프록시의 id 는 초기화 없이 읽힘
+        if (!group.getHost().getId().equals(userId)) {
+            throw new GroupException(GroupErrorCode.NOT_GROUP_HOST);
+        }
+        return group;
+    }
+
+    private void checkImage(String contentType, Long size) {
+        if (!EXTENSION_BY_CONTENT_TYPE.containsKey(contentType) || size == null || size > maxImageBytes) {
+            throw new GroupException(GroupErrorCode.INVALID_IMAGE, maxImageBytes / (1024 * 1024));
+        }
+    }
+
+    private static void checkImageCount(int count) {
+        if (count > MAX_IMAGES_PER_GROUP) {
+            throw new GroupException(GroupErrorCode.TOO_MANY_IMAGES, MAX_IMAGES_PER_GROUP);
+        }
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int idx = contentType.indexOf(';');
+        return (idx >= 0 ? contentType.substring(0, idx) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+}
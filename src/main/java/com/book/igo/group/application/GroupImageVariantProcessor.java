@@ -0,0 +1,218 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.entity.ImageVariantStatus;
+import com.book.igo.group.domain.repository.GroupImageRepository;
+import com.book.igo.group.domain.repository.GroupImageVariantSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * 모임 이미지 파생본(썸네일/중간 크기) 생성 워커.
+ *
+ * <ul>
+ *   <li>요청: 이미지 등록 트랜잭션의 아웃박스 이벤트({@link GroupImagesAttachedHandler})가 {@link #request} 로 작업 큐에 넣음</li>
+ *   <li>배압: 고정 크기 워커 + 유한 큐. 큐가 가득 차면 넣지 않고 PENDING 으로 남겨 점검 주기에 다시 넣음</li>
+ *   <li>재시도: 실패하면 시도 횟수만 올리고 PENDING 유지, {@code max-attempts} 에 닿으면 FAILED</li>
+ *   <li>점검: PENDING 이미지를 id 순으로 큐 여유만큼 다시 넣음 (재시작/누락/재시도)</li>
+ * </ul>
+ *
+ * <p>파생본 키는 원본 키에서 정해지고 기록은 PENDING 일 때만 하므로, 여러 노드가 같은 이미지를 처리해도 결과는 같습니다.</p>
+ */
+@Slf4j
+@Component
+public class GroupImageVariantProcessor {
+
+    private static final String THUMBNAIL = "thumb";
+    private static final String MEDIUM = "medium";
+
+    private final GroupImageRepository groupImageRepository;
+    private final ImageStorageService imageStorageService;
+    private final GroupDetailCache groupDetailCache;
+    private final MeterRegistry meterRegistry;
+    private final ImageVariantRenderer renderer;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final int thumbnailMaxEdge;
+    private final int mediumMaxEdge;
+    private final int sweepBatchSize;
+
+    // 큐에 있거나 처리 중인 이미지 id (같은 노드 안 중복 투입 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public GroupImageVariantProcessor(
+            GroupImageRepository groupImageRepository,
+            ImageStorageService imageStorageService,
+            GroupDetailCache groupDetailCache,
+            MeterRegistry meterRegistry,
+            @Value("${group.image-variant.threads:2}") int threads,
+            @Value("${group.image-variant.queue-capacity:200}") int queueCapacity,
+            @Value("${group.image-variant.max-attempts:3}") int maxAttempts,
+            @Value("${group.image-variant.thumbnail-max-edge:320}") int thumbnailMaxEdge,
+            @Value("${group.image-variant.medium-max-edge:1280}") int mediumMaxEdge,
+            @Value("${group.image-variant.jpeg-quality:0.8}") float jpegQuality,
+            @Value("${group.image-variant.max-pixels:40000000}") long maxPixels,
+            @Value("${group.image-variant.sweep-batch-size:100}") int sweepBatchSize
+    ) {
+        this.groupImageRepository = groupImageRepository;
+        this.imageStorageService = imageStorageService;
+        this.groupDetailCache = groupDetailCache;
+        this.meterRegistry = meterRegistry;
+        this.renderer = new ImageVariantRenderer(maxPixels, jpegQuality);
+        this.maxAttempts = maxAttempts;
+        this.thumbnailMaxEdge = thumbnailMaxEdge;
+        this.mediumMaxEdge = mediumMaxEdge;
+        this.sweepBatchSize = sweepBatchSize;
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variant-", 1).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "group.image.variant");
+    }
+
+    /**
+     * 파생본 생성을 요청합니다. 큐가 가득 차면 넣지 못한 이미지는 점검 주기에 처리됩니다.
+     */
+    public void request(List<Long> imageIds) {
+        for (Long imageId : imageIds) {
+            if (!submit(imageId)) {
+                log.warn("Image variant queue full, deferring to sweep. requested={}", imageIds.size());
+                return;
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${group.image-variant.sweep-interval-ms:60000}",
+            initialDelayString = "${group.image-variant.sweep-interval-ms:60000}"
+    )
+    public void sweep() {
+        long afterId = 0L;
+        while (executor.getQueue().remainingCapacity() > 0) {
+            List<Long> batch = groupImageRepository.findPendingVariantIdsAfter(afterId, Limit.of(sweepBatchSize));
+            for (Long imageId : batch) {
+                if (!submit(imageId)) {
+                    return;
+                }
+            }
+
+            if (batch.size() < sweepBatchSize) {
+                return;
+            }
+            afterId = batch.get(batch.size() - 1);
+        }
+    }
+
+    /**
+     * @return 큐가 가득 차 넣지 못했으면 false
+     */
+    private boolean submit(Long imageId) {
+        if (!inFlight.add(imageId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(imageId);
+                } finally {
+                    inFlight.remove(imageId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(imageId);
+            count("deferred");
+            return false;
+        }
+    }
+
+    private void process(Long imageId) {
+        GroupImageVariantSource source = groupImageRepository.findVariantSource(imageId)
+                .filter(found -> found.variantStatus() == ImageVariantStatus.PENDING)
+                .orElse(null);
+        if (source == null) {
+            return;
+        }
+
+        Optional<String> originalKey = imageStorageService.keyOf(source.imageUrl());
+        if (originalKey.isEmpty()) {
+            giveUp(source, "not a bucket url");
+            return;
+        }
+
+        try {
+            Optional<BufferedImage> decoded;
+            try (InputStream in = imageStorageService.openObject(originalKey.get())) {
+                decoded = renderer.decode(in, mediumMaxEdge);
+            }
+            if (decoded.isEmpty()) {
+                giveUp(source, "unsupported or too large");
+                return;
+            }
+
+            String mediumUrl = store(originalKey.get(), MEDIUM, renderer.render(decoded.get(), mediumMaxEdge));
+            String thumbnailUrl = store(originalKey.get(), THUMBNAIL, renderer.render(decoded.get(), thumbnailMaxEdge));
+
+            if (groupImageRepository.completeVariants(imageId, thumbnailUrl, mediumUrl) > 0) {
+                groupDetailCache.evict(source.groupId());
+                count("ready");
+            }
+        } catch (NoSuchKeyException e) {
+            // 원본이 지워짐 (업로드 보상 삭제 등)
+            giveUp(source, "original missing");
+        } catch (IOException | RuntimeException e) {
+            groupImageRepository.recordVariantFailure(imageId, maxAttempts);
+            count("retry");
+            log.warn("Image variant generation failed. imageId={}, reason={}", imageId, e.getMessage());
+        }
+    }
+
+    private String store(String originalKey, String variantName, byte[] bytes) {
+        String key = imageStorageService.variantKeyOf(originalKey, variantName, ImageVariantRenderer.EXTENSION);
+        return imageStorageService.putObject(key, bytes, ImageVariantRenderer.CONTENT_TYPE);
+    }
+
+    private void giveUp(GroupImageVariantSource source, String reason) {
+        // 재시도해도 결과가 같으므로 바로 FAILED (시도 한도 1)
+        groupImageRepository.recordVariantFailure(source.imageId(), 1);
+        count("failed");
+        log.warn("Image variant skipped. imageId={}, reason={}", source.imageId(), reason);
+    }
+
+    private void count(String result) {
+        Counter.builder("group.image.variant.processed")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 못 한 작업은 PENDING 으로 남아 다음 기동의 점검에서 다시 처리됨
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+package com.book.igo.group.application;
+
+import com.book.igo.common.outbox.OutboxEvent;
+import com.book.igo.common.outbox.OutboxHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 이미지의 파생본 생성을 요청하고 상세 캐시를 무효화합니다. (payload: 이미지 id 배열)
+ *
+ * <p>작업 큐가 가득 차도 실패로 보지 않습니다. 이미지는 PENDING 으로 남아 파생본 점검 주기에 처리됩니다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class GroupImagesAttachedHandler implements OutboxHandler {
+
+    public static final String TYPE = "GROUP_IMAGES_ATTACHED";
+
+    private static final TypeReference<List<Long>> IMAGE_IDS = new TypeReference<>() {
+    };
+
+    private final GroupImageVariantProcessor groupImageVariantProcessor;
+    private final GroupDetailCache groupDetailCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        List<Long> imageIds;
+        try {
+            imageIds = objectMapper.readValue(event.getPayload(), IMAGE_IDS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed image ids payload", e);
+        }
+
+        groupDetailCache.evictNow(event.getAggregateId());
+        groupImageVariantProcessor.request(imageIds);
+    }
+}
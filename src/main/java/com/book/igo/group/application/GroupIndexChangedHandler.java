@@ -0,0 +1,28 @@
+package com.book.igo.group.application;
+
+import com.book.igo.common.outbox.OutboxEvent;
+import com.book.igo.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임 색인 갱신을 모든 노드에 전파합니다. 실패(Redis 장애)하면 아웃박스가 재시도합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class GroupIndexChangedHandler implements OutboxHandler {
+
+    public static final String TYPE = "GROUP_INDEX_CHANGED";
+
+    private final GroupIndexSync groupIndexSync;
+
+    @Override
+    public String eventType() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        groupIndexSync.publish(event.getAggregateId());
+    }
+}
@@ -0,0 +1,105 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.repository.GroupGeoSource;
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupSearchSource;
+import com.book.igo.group.domain.repository.GroupTagRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 모임 색인(태그 비트맵, 전문 검색, 위경도 격자)의 노드 간 동기화.
+ *
+ * <ul>
+ *   <li>전파: {@link GroupIndexChangedHandler} 가 커밋된 변경의 모임 id 를 pub/sub 으로 모든 노드에 알림</li>
+ *   <li>반영: 각 노드가 그 모임을 DB 에서 다시 읽어 세 색인에 넣거나 (삭제됐거나 없으면) 빼냄.
+ *       값을 통째로 바꾸므로 중복/역순 전달에도 결과가 같음</li>
+ *   <li>유실: 각 색인의 주기적 재구축({@code rebuild-interval-ms})으로 복구</li>
+ * </ul>
+ *
+ * @implNote 이벤트를 보낸 노드도 메시지를 받습니다. 그 노드는 커밋 직후 이미 반영했으므로 같은 값을 한 번 더 씁니다.
+ */
+@Slf4j
+@Component
+public class GroupIndexSync implements MessageListener {
+
+    private static final String CHANNEL = "group:index:events";
+
+    private final StringRedisTemplate template;
+    private final GroupRepository groupRepository;
+    private final GroupTagRepository groupTagRepository;
+    private final GroupTagBitmapIndex groupTagBitmapIndex;
+    private final GroupSearchIndex groupSearchIndex;
+    private final GroupGeoIndex groupGeoIndex;
+
+    public GroupIndexSync(
+            StringRedisTemplate template,
+            RedisMessageListenerContainer listenerContainer,
+            GroupRepository groupRepository,
+            GroupTagRepository groupTagRepository,
+            GroupTagBitmapIndex groupTagBitmapIndex,
+            GroupSearchIndex groupSearchIndex,
+            GroupGeoIndex groupGeoIndex
+    ) {
+        this.template = template;
+        this.groupRepository = groupRepository;
+        this.groupTagRepository = groupTagRepository;
+        this.groupTagBitmapIndex = groupTagBitmapIndex;
+        this.groupSearchIndex = groupSearchIndex;
+        this.groupGeoIndex = groupGeoIndex;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 모든 노드에 모임 색인 갱신을 알립니다. 실패하면 예외를 던집니다. (아웃박스 재시도용)
+     */
+    public void publish(Long groupId) {
+        template.convertAndSend(CHANNEL, String.valueOf(groupId));
+    }
+
+    /**
+     * 모임 하나를 DB 의 현재 값으로 세 색인에 다시 반영합니다. (트랜잭션 밖에서 호출, 즉시 반영)
+     */
+    public void refresh(Long groupId) {
+        Optional<GroupSearchSource> searchSource = groupRepository.findSearchSourceById(groupId);
+        if (searchSource.isEmpty()) {
+            groupTagBitmapIndex.removeGroup(groupId);
+            groupSearchIndex.removeAfterCommit(groupId);
+            groupGeoIndex.removeAfterCommit(groupId);
+            return;
+        }
+
+        groupTagBitmapIndex.replaceGroup(groupId, groupTagRepository.findTagIdsByGroupId(groupId));
+        groupSearchIndex.indexAfterCommit(searchSource.get());
+
+        Optional<GroupGeoSource> geoSource = groupRepository.findUpcomingGeoSourceById(LocalDateTime.now(), groupId);
+        if (geoSource.isPresent()) {
+            groupGeoIndex.addAfterCommit(geoSource.get());
+        } else {
+            groupGeoIndex.removeAfterCommit(groupId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            refresh(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed group index event: {}", body);
+        } catch (DataAccessException e) {
+            // 다음 재구축 때 복구
+            log.warn("Group index refresh failed. groupId={}, reason={}", body, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.book.igo.group.application;
+
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import com.book.igo.common.outbox.OutboxPublisher;
+import com.book.igo.group.domain.entity.Group;
+import com.book.igo.group.domain.entity.GroupUser;
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupSeatRepository;
+import com.book.igo.group.domain.repository.GroupSeatRepository.ReserveResult;
+import com.book.igo.group.domain.repository.GroupUserRepository;
+import com.book.igo.group.infrastructure.exception.GroupErrorCode;
+import com.book.igo.group.infrastructure.exception.GroupException;
+import com.book.igo.user.domain.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 모임 참여/나가기.
+ *
+ * <p>정원 확인은 {@link GroupSeatRepository} 의 원자적 좌석 예약으로 처리하고, 좌석을 얻은 요청만
+ * {@code v1_group_users} 에 기록합니다. 인기 모임에 참여 요청이 몰려도 DB 행 잠금으로 줄 세우지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>커밋 성공: 예약 좌석을 확정</li>
+ *   <li>롤백: 예약 좌석 반납</li>
+ *   <li>나가기: 조건부 update 로 한 요청만 반영하고, 커밋 이후 좌석 반납</li>
+ * </ul>
+ *
+ * <p>모임의 {@code participant_count} 는 같은 트랜잭션에서 행 단위 원자 update 로 함께 바꾸고,
+ * 상세 캐시 무효화는 같은 트랜잭션의 아웃박스 이벤트로 남깁니다.</p>
+ *
+ * <p>Redis 와 DB 사이 어긋남(후처리 실패 등)은 {@link GroupSeatReconciler} 가 주기적으로 바로잡습니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class GroupJoinService {
+
+    // 모임 종료 후에도 나가기/정합성 점검이 가능하도록 좌석 정보를 하루 더 보관
+    private static final Duration SEAT_RETENTION_AFTER_END = Duration.ofDays(1);
+
+    private final GroupRepository groupRepository;
+    private final GroupUserRepository groupUserRepository;
+    private final UserRepository userRepository;
+    private final GroupSeatRepository groupSeatRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final GroupGeoIndex groupGeoIndex;
+
+
+    @Transactional
+    public void join(Long userId, Long groupId) {
+        Group group = groupRepository.findById(groupId)
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND, groupId));
+
+        if (!group.getEndTime().isAfter(LocalDateTime.now())) {
+            throw new GroupException(GroupErrorCode.GROUP_ALREADY_ENDED);
+        }
+
+        // 좌석 왕복 전에 걸러지는 흔한 중복 요청
+        if (groupUserRepository.findActive(groupId, userId).isPresent()) {
+            throw new GroupException(GroupErrorCode.ALREADY_JOINED);
+        }
+
+        reserveSeat(group, userId);
+        completeSeatAfterTransaction(groupId, userId);
+
+        // 모임 행 X 잠금을 먼저 잡고 참여 이력 insert (FK 검사의 S 잠금과 엇갈린 교착 방지)
+        groupRepository.incrementParticipantCount(groupId);
+        groupUserRepository.saveAndFlush(GroupUser.join(group, userRepository.getReferenceById(userId)));
+        groupGeoIndex.setParticipantsAfterCommit(groupId, groupRepository.findParticipantCountById(groupId));
+        outboxPublisher.publish(GroupDetailChangedHandler.TYPE, groupId, null);
+    }
+
+    @Transactional
+    public void leave(Long userId, Long groupId) {
+        GroupUser groupUser = groupUserRepository.findActive(groupId, userId)
+                .orElseThrow(() -> new GroupException(GroupErrorCode.NOT_JOINED));
+
+        if (groupUser.isHost()) {
+            throw new GroupException(GroupErrorCode.HOST_CANNOT_LEAVE);
+        }
+
+        // 읽은 뒤 조건부 update 로 확정. 동시 나가기에서 진 요청은 인원/좌석을 건드리지 않음
+        if (groupUserRepository.markLeft(groupUser.getId(), LocalDateTime.now()) != 1) {
+            throw new GroupException(GroupErrorCode.NOT_JOINED);
+        }
+        groupRepository.decrementParticipantCount(groupId);
+        groupGeoIndex.setParticipantsAfterCommit(groupId, groupRepository.findParticipantCountById(groupId));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseQuietly(groupId, userId);
+            }
+        });
+        outboxPublisher.publish(GroupDetailChangedHandler.TYPE, groupId, null);
+    }
+
+    /**
+     * 좌석 정보 보관 기한 (모임 종료 + 하루, epoch ms)
+     */
+    static long seatExpireAtMs(Group group) {
+        return group.getEndTime().plus(SEAT_RETENTION_AFTER_END)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private void reserveSeat(Group group, Long userId) {
+        ReserveResult result;
+        try {
+            result = groupSeatRepository.reserve(group.getId(), userId, group.getMaxParticipants());
+            if (result == ReserveResult.NOT_INITIALIZED) {
+                groupSeatRepository.initialize(
+                        group.getId(), groupUserRepository.findActiveUserIds(group.getId()), seatExpireAtMs(group));
+                result = groupSeatRepository.reserve(group.getId(), userId, group.getMaxParticipants());
+            }
+        } catch (DataAccessException e) {
+            // 정원 보장을 못 하므로 DB 로 우회하지 않고 거절
+            log.warn("Seat reservation failed. groupId={}, userId={}, reason={}", group.getId(), userId, e.getMessage());
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        switch (result) {
+            case RESERVED -> {
+            }
+            case ALREADY_JOINED -> throw new GroupException(GroupErrorCode.ALREADY_JOINED);
+            case FULL -> throw new GroupException(GroupErrorCode.GROUP_FULL);
+            case NOT_INITIALIZED -> throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private void completeSeatAfterTransaction(Long groupId, Long userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    confirmQuietly(groupId, userId);
+                } else {
+                    releaseQuietly(groupId, userId);
+                }
+            }
+        });
+    }
+
+    private void confirmQuietly(Long groupId, Long userId) {
+        try {
+            groupSeatRepository.confirm(groupId, userId);
+        } catch (DataAccessException e) {
+            log.warn("Seat confirm failed. groupId={}, userId={}, reason={}", groupId, userId, e.getMessage());
+        }
+    }
+
+    private void releaseQuietly(Long groupId, Long userId) {
+        try {
+            groupSeatRepository.release(groupId, userId);
+        } catch (DataAccessException e) {
+            log.warn("Seat release failed. groupId={}, userId={}, reason={}", groupId, userId, e.getMessage());
+        }
+    }
+}
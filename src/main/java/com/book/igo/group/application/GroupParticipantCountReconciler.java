@@ -0,0 +1,93 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.repository.GroupParticipantCount;
+import com.book.igo.group.domain.repository.GroupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임의 {@code participant_count} 를 {@code v1_group_users} 실제 참여 인원과 주기적으로 맞춥니다.
+ *
+ * <p>진행 중이거나 최근(하루 이내) 끝난 모임만 id keyset 으로 끊어 점검하고, 차이가 있으면
+ * 읽은 값이 그대로일 때만 고칩니다. (점검 도중 들어온 참여/나가기는 다음 주기에 다시 확인)</p>
+ */
+@Slf4j
+@Component
+public class GroupParticipantCountReconciler {
+
+    private static final Duration ENDED_LOOKBACK = Duration.ofDays(1);
+
+    private final GroupRepository groupRepository;
+    private final Counter fixedCounter;
+    private final int batchSize;
+
+    public GroupParticipantCountReconciler(
+            GroupRepository groupRepository,
+            MeterRegistry meterRegistry,
+            @Value("${group.participant-count.reconcile-batch-size:500}") int batchSize
+    ) {
+        this.groupRepository = groupRepository;
+        this.batchSize = batchSize;
+        this.fixedCounter = Counter.builder("group.participant_count.reconcile.fixed")
+                .description("정합성 점검으로 바로잡은 모임 참여 인원 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${group.participant-count.reconcile-interval-ms:600000}",
+            fixedDelayString = "${group.participant-count.reconcile-interval-ms:600000}"
+    )
+    public void reconcile() {
+        LocalDateTime endedAfter = LocalDateTime.now().minus(ENDED_LOOKBACK);
+        long checked = 0;
+        int fixed = 0;
+
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<GroupParticipantCount> batch =
+                        groupRepository.findParticipantCountsAfter(endedAfter, afterId, Limit.of(batchSize));
+
+                for (GroupParticipantCount count : batch) {
+                    if (count.drifted() && correct(count)) {
+                        fixed++;
+                    }
+                }
+                checked += batch.size();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).groupId();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Participant count reconcile stopped. checked={}, reason={}", checked, e.getMessage());
+        }
+
+        if (fixed > 0) {
+            log.warn("Participant count drift fixed. checked={}, fixed={}", checked, fixed);
+        }
+    }
+
+    private boolean correct(GroupParticipantCount count) {
+        int updated = groupRepository.correctParticipantCount(
+                count.groupId(), count.stored(), Math.toIntExact(count.actual()));
+        if (updated == 0) {
+            return false;
+        }
+
+        fixedCounter.increment();
+        log.warn("Participant count corrected. groupId={}, stored={}, actual={}",
+                count.groupId(), count.stored(), count.actual());
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.infrastructure.exception.GroupErrorCode;
+import com.book.igo.group.infrastructure.exception.GroupException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 전문 검색 keyset 커서: 마지막으로 받은 결과의 (BM25 score, group_id).
+ *
+ * <p>score 는 비트 그대로(16진수) 인코딩해 다음 페이지 비교 시 오차가 생기지 않게 합니다.
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 문자열로만 노출합니다.</p>
+ */
+record GroupSearchCursor(float score, Long groupId) {
+
+    private static final char SEPARATOR = '_';
+
+    static GroupSearchCursor from(GroupSearchIndex.Hit hit) {
+        return new GroupSearchCursor(hit.score(), hit.groupId());
+    }
+
+    static GroupSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            if (idx <= 0) {
+                throw new GroupException(GroupErrorCode.INVALID_CURSOR);
+            }
+            return new GroupSearchCursor(
+                    Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, idx), 16)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new GroupException(GroupErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    GroupSearchIndex.Hit toHit() {
+        return new GroupSearchIndex.Hit(groupId, score, Map.of());
+    }
+
+    String encode() {
+        String raw = Integer.toHexString(Float.floatToIntBits(score)) + SEPARATOR + groupId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
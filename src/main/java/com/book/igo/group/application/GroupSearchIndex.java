@@ -0,0 +1,451 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupSearchSource;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 모임 제목/설명/장소 전문 검색 색인 (노드 로컬 디스크의 Lucene 색인).
+ *
+ * <ul>
+ *   <li>분석: CJK bigram (한글은 형태소 분석 없이 두 글자 단위로 색인). 제목 > 장소 > 설명 순으로 가중치</li>
+ *   <li>랭킹: BM25 (Lucene 기본), 동점은 모임 id 오름차순. 페이지는 (score, id) keyset 으로 이어 읽음</li>
+ *   <li>갱신: 쓰기 트랜잭션이 커밋된 뒤 {@link #indexAfterCommit}/{@link #removeAfterCommit} 로 반영하고
+ *       바로 near-real-time 리더를 갱신. 디스크 커밋은 {@code commit-interval-ms} 마다.
+ *       다른 노드의 변경은 {@link GroupIndexSync} 가 트랜잭션 밖에서 같은 메서드로 반영</li>
+ *   <li>재구축: {@code group.search.rebuild-on-startup=true} 로 기동하거나 색인이 없으면 기동 완료 후,
+ *       이후 {@code rebuild-interval-ms} 마다 {@code v1_groups} 를 id keyset 으로 끊어 읽어 별도 디렉터리에 다시 만듦
+ *       (동기화 이벤트 유실 복구). 다 만든 뒤에만 현재 색인과 교체하므로, 도중에 실패하면 기존 색인을 그대로 씀.
+ *       재구축 중 들어온 갱신은 현재 색인에 바로 반영하고 교체 직후 다시 반영</li>
+ * </ul>
+ *
+ * @implNote 모임을 생성/수정/삭제하는 모든 쓰기 경로는 같은 트랜잭션 안에서 색인 갱신을 등록하고
+ *     {@link GroupIndexChangedHandler#TYPE} 아웃박스 이벤트를 남겨야 합니다. (검색 결과는 DB 에서 다시 조회해 걸러 냄)
+ */
+@Slf4j
+@Component
+public class GroupSearchIndex {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_LOCATION = "location";
+
+    private static final String FIELD_ID_SORT = "id_sort";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_LOCATION, 2.0f,
+            FIELD_DESCRIPTION, 1.0f
+    );
+    private static final Sort SORT = new Sort(SortField.FIELD_SCORE, new SortField(FIELD_ID_SORT, SortField.Type.LONG));
+    private static final int SNIPPET_SIZE = 100;
+
+    private final GroupRepository groupRepository;
+    private final int rebuildBatchSize;
+    private final boolean rebuildOnStartup;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final Path indexPath;
+    private final FSDirectory directory;
+    private final boolean indexExisted;
+
+    // 쓰기/디스크 커밋/교체를 직렬화. writer 와 searcherManager 는 교체 실패 시 다시 열림
+    private final Object writeLock = new Object();
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    // writeLock 으로 보호. 재구축 중이 아니면 null
+    private List<IndexTask> pendingDuringRebuild = null;
+
+    public GroupSearchIndex(
+            GroupRepository groupRepository,
+            @Value("${group.search.index-dir:./data/group-search-index}") String indexDir,
+            @Value("${group.search.rebuild-batch-size:1000}") int rebuildBatchSize,
+            @Value("${group.search.rebuild-on-startup:false}") boolean rebuildOnStartup
+    ) {
+        this.groupRepository = groupRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+
+        try {
+            this.indexPath = Files.createDirectories(Path.of(indexDir)).toAbsolutePath();
+            this.directory = FSDirectory.open(indexPath);
+            this.indexExisted = DirectoryReader.indexExists(directory);
+            this.writer = openWriter();
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open group search index: " + indexDir, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        if (rebuildOnStartup || !indexExisted) {
+            rebuild();
+        }
+    }
+
+    /**
+     * {@code v1_groups} 전체를 배치 단위로 별도 디렉터리에 다시 색인한 뒤, 현재 색인을 그 내용으로 교체하고 커밋합니다.
+     * 재구축이 실패하면 현재 색인은 바뀌지 않습니다.
+     */
+    @Scheduled(
+            initialDelayString = "${group.search.rebuild-interval-ms:1800000}",
+            fixedDelayString = "${group.search.rebuild-interval-ms:1800000}"
+    )
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        synchronized (writeLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Path buildPath = null;
+        try {
+            buildPath = Files.createTempDirectory(indexPath.getParent(), indexPath.getFileName() + "-rebuild-");
+            try (FSDirectory buildDirectory = FSDirectory.open(buildPath)) {
+                try (IndexWriter buildWriter = new IndexWriter(buildDirectory, new IndexWriterConfig(analyzer)
+                        .setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
+
+                    long afterId = 0L;
+                    while (true) {
+                        List<GroupSearchSource> batch =
+                                groupRepository.findSearchSourcesAfter(afterId, Limit.of(rebuildBatchSize));
+                        for (GroupSearchSource source : batch) {
+                            buildWriter.addDocument(toDocument(source));
+                        }
+                        count += batch.size();
+
+                        if (batch.size() < rebuildBatchSize) {
+                            break;
+                        }
+                        afterId = batch.get(batch.size() - 1).id();
+                    }
+
+                    buildWriter.commit();
+                }
+                // addIndexes 는 원본 디렉터리의 쓰기 잠금을 잡으므로 빌드용 writer 를 닫은 뒤 교체
+                swap(buildDirectory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rebuild group search index", e);
+        } finally {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            deleteQuietly(buildPath);
+        }
+        refresh();
+
+        log.info("Group search index rebuilt: groups={}, took={}ms", count, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모임 문서를 추가/교체합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void indexAfterCommit(GroupSearchSource source) {
+        runAfterCommit(() -> writer.updateDocument(idTerm(source.id()), toDocument(source)), source.id());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모임 문서를 제거합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void removeAfterCommit(Long groupId) {
+        runAfterCommit(() -> writer.deleteDocuments(idTerm(groupId)), groupId);
+    }
+
+    /**
+     * BM25 점수 내림차순(동점은 id 오름차순)으로 {@code after} 다음부터 최대 {@code limit} 건을 반환합니다.
+     *
+     * @param after 이전 페이지 마지막 결과 (첫 페이지면 null)
+     */
+    public List<Hit> search(String text, Hit after, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = null;
+        try {
+            searcher = manager.acquire();
+
+            FieldDoc afterDoc = after != null
+                    ? new FieldDoc(Integer.MAX_VALUE, after.score(), new Object[]{after.score(), after.groupId()})
+                    : null;
+            TopDocs topDocs = searcher.searchAfter(afterDoc, query, limit, SORT, true);
+
+            QueryScorer scorer = new QueryScorer(query);
+            Highlighter highlighter = new Highlighter(
+                    new SimpleHTMLFormatter("<em>", "</em>"), new SimpleHTMLEncoder(), scorer);
+            highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, SNIPPET_SIZE));
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = storedFields.document(scoreDoc.doc);
+                hits.add(new Hit(
+                        Long.parseLong(document.get(FIELD_ID)),
+                        scoreDoc.score,
+                        highlight(highlighter, document)
+                ));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Group search failed", e);
+        } finally {
+            release(manager, searcher);
+        }
+    }
+
+    /**
+     * 갱신 사이에 쌓인 변경을 디스크에 커밋합니다. (비정상 종료 시 마지막 커밋 이후 변경은 재구축으로 복구)
+     */
+    @Scheduled(
+            initialDelayString = "${group.search.commit-interval-ms:10000}",
+            fixedDelayString = "${group.search.commit-interval-ms:10000}"
+    )
+    public void commit() {
+        synchronized (writeLock) {
+            if (!writer.hasUncommittedChanges()) {
+                return;
+            }
+            try {
+                writer.commit();
+            } catch (IOException e) {
+                log.warn("Group search index commit failed. reason={}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    /**
+     * 검색 결과 한 건.
+     *
+     * @param highlights 필드명 → 검색어를 {@code <em>} 으로 감싼 발췌 (일치한 필드만, HTML 이스케이프됨)
+     */
+    public record Hit(Long groupId, float score, Map<String, String> highlights) {
+    }
+
+    private Query buildQuery(String text) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasClause = false;
+
+        for (Map.Entry<String, Float> entry : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(entry.getKey(), text);
+            if (fieldQuery != null) {
+                builder.add(new BoostQuery(fieldQuery, entry.getValue()), BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+
+        // 불용어만 있는 등 분석 결과 토큰이 없으면 검색하지 않음
+        return hasClause ? builder.build() : null;
+    }
+
+    private Map<String, String> highlight(Highlighter highlighter, Document document) throws IOException {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        for (String field : List.of(FIELD_TITLE, FIELD_LOCATION, FIELD_DESCRIPTION)) {
+            String value = document.get(field);
+            if (value == null) {
+                continue;
+            }
+            try {
+                String fragment = highlighter.getBestFragment(analyzer, field, value);
+                if (fragment != null) {
+                    highlights.put(field, fragment);
+                }
+            } catch (InvalidTokenOffsetsException e) {
+                log.debug("Skipping highlight. field={}, reason={}", field, e.getMessage());
+            }
+        }
+        return highlights;
+    }
+
+    private void runAfterCommit(IndexTask task, Long groupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(task, groupId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(task, groupId);
+            }
+        });
+    }
+
+    private void runQuietly(IndexTask task, Long groupId) {
+        try {
+            synchronized (writeLock) {
+                task.run();
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(task);
+                }
+            }
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            // 이미 커밋된 요청은 실패시키지 않음. 누락분은 다음 재구축 때 복구
+            log.warn("Group search index update failed. groupId={}, reason={}", groupId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 색인을 새로 만든 색인으로 바꾸고, 재구축 중 들어온 갱신을 다시 반영한 뒤 커밋합니다.
+     * 도중에 실패하면 커밋하지 않은 변경을 버리고 마지막 커밋 상태로 다시 엽니다.
+     */
+    private void swap(Directory built) throws IOException {
+        synchronized (writeLock) {
+            try {
+                writer.deleteAll();
+                writer.addIndexes(built);
+                for (IndexTask task : pendingDuringRebuild) {
+                    task.run();
+                }
+                writer.commit();
+            } catch (IOException | RuntimeException e) {
+                reopen();
+                throw e;
+            }
+        }
+    }
+
+    private void reopen() {
+        IndexWriter failed = writer;
+        SearcherManager previous = searcherManager;
+        try {
+            failed.rollback();
+        } catch (IOException e) {
+            log.warn("Group search index rollback failed. reason={}", e.getMessage());
+        }
+
+        try {
+            writer = openWriter();
+            searcherManager = new SearcherManager(writer, null);
+            previous.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to reopen group search index", e);
+        }
+        log.warn("Group search index reopened from the last commit");
+    }
+
+    private IndexWriter openWriter() throws IOException {
+        return new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            IOUtils.rm(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete group search rebuild directory. path={}, reason={}", path, e.getMessage());
+        }
+    }
+
+    private void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Group search index refresh failed. reason={}", e.getMessage());
+        }
+    }
+
+    private void release(SearcherManager manager, IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            manager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release group searcher. reason={}", e.getMessage());
+        }
+    }
+
+    private static Document toDocument(GroupSearchSource source) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(source.id()), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, source.id()));
+        addText(document, FIELD_TITLE, source.title());
+        addText(document, FIELD_LOCATION, source.location());
+        addText(document, FIELD_DESCRIPTION, source.description());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    private static Term idTerm(Long groupId) {
+        return new Term(FIELD_ID, String.valueOf(groupId));
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,92 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.entity.Group;
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupSeatRepository;
+import com.book.igo.group.domain.repository.GroupUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 변동이 있었던 모임의 Redis 좌석을 {@code v1_group_users} 기준으로 바로잡습니다.
+ *
+ * <p>확정/반납 후처리가 실패했거나 예약 유효 시간이 지나 정리된 좌석을 복구합니다.
+ * DB 를 읽기 직전 시각(- 노드 간 시계 오차)보다 늦게 확정된 좌석은 아직 조회에 안 보일 수 있어 건드리지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class GroupSeatReconciler {
+
+    private final GroupRepository groupRepository;
+    private final GroupUserRepository groupUserRepository;
+    private final GroupSeatRepository groupSeatRepository;
+    private final Counter fixedCounter;
+    private final int batchSize;
+    private final long clockSkewMs;
+
+    public GroupSeatReconciler(
+            GroupRepository groupRepository,
+            GroupUserRepository groupUserRepository,
+            GroupSeatRepository groupSeatRepository,
+            MeterRegistry meterRegistry,
+            @Value("${group.seat.reconcile-batch-size:100}") int batchSize,
+            @Value("${group.seat.reconcile-clock-skew-ms:5000}") long clockSkewMs
+    ) {
+        this.groupRepository = groupRepository;
+        this.groupUserRepository = groupUserRepository;
+        this.groupSeatRepository = groupSeatRepository;
+        this.batchSize = batchSize;
+        this.clockSkewMs = clockSkewMs;
+        this.fixedCounter = Counter.builder("group.seat.reconcile.fixed")
+                .description("정합성 점검으로 바로잡은 좌석 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${group.seat.reconcile-interval-ms:60000}",
+            fixedDelayString = "${group.seat.reconcile-interval-ms:60000}"
+    )
+    public void reconcileChanged() {
+        List<Long> groupIds;
+        try {
+            groupIds = groupSeatRepository.popChangedGroupIds(batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Seat reconcile skipped. reason={}", e.getMessage());
+            return;
+        }
+
+        for (Long groupId : groupIds) {
+            try {
+                reconcile(groupId);
+            } catch (DataAccessException e) {
+                log.warn("Seat reconcile failed. groupId={}, reason={}", groupId, e.getMessage());
+            }
+        }
+    }
+
+    private void reconcile(Long groupId) {
+        long snapshotAtMs = System.currentTimeMillis();
+
+        Optional<Group> group = groupRepository.findById(groupId)
+                .filter(found -> found.getDeletedAt() == null);
+        if (group.isEmpty()) {
+            return;
+        }
+
+        List<Long> activeUserIds = groupUserRepository.findActiveUserIds(groupId);
+        int fixed = groupSeatRepository.reconcile(
+                groupId, activeUserIds, snapshotAtMs - clockSkewMs, GroupJoinService.seatExpireAtMs(group.get()));
+
+        if (fixed > 0) {
+            fixedCounter.increment(fixed);
+            log.warn("Seat drift fixed. groupId={}, fixed={}", groupId, fixed);
+        }
+    }
+}
@@ -1,35 +1,48 @@
 package com.book.igo.group.application;
 
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import com.book.igo.common.outbox.OutboxPublisher;
 import com.book.igo.common.security.JwtUserPrincipal;
 import com.book.igo.group.application.dto.request.CreateGroupRequest;
+import com.book.igo.group.application.dto.request.ImageVariant;
+import com.book.igo.group.application.dto.request.NearbySort;
 import com.book.igo.group.application.dto.response.GetGroupResponse;
+import com.book.igo.group.application.dto.response.GroupFeedResponse;
+import com.book.igo.group.application.dto.response.GroupNearbyResponse;
+import com.book.igo.group.application.dto.response.GroupSearchResponse;
 import com.book.igo.group.domain.entity.Group;
-import com.book.igo.group.domain.entity.GroupImage;
 import com.book.igo.group.domain.entity.GroupRole;
 import com.book.igo.group.domain.entity.GroupTag;
 import com.book.igo.group.domain.entity.GroupUser;
+import com.book.igo.group.domain.repository.GroupFeedItem;
+import com.book.igo.group.domain.repository.GroupGeoSource;
 import com.book.igo.group.domain.repository.GroupImageRepository;
 import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupSearchSource;
 import com.book.igo.group.domain.repository.GroupTagRepository;
 import com.book.igo.group.domain.repository.GroupUserRepository;
 import com.book.igo.group.infrastructure.exception.GroupErrorCode;
 import com.book.igo.group.infrastructure.exception.GroupException;
-import com.book.igo.tag.domain.entity.Tag;
+import com.book.igo.tag.application.service.TagResolver;
 import com.book.igo.tag.domain.repository.TagRepository;
 import com.book.igo.user.domain.entity.User;
 import com.book.igo.user.domain.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 @RequiredArgsConstructor
@@ -42,25 +55,49 @@ public class GroupService {
     private final GroupUserRepository groupUserRepository;
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final TagResolver tagResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxPublisher outboxPublisher;
 
-    private final ImageStorageService imageStorageService;
+    private final GroupDetailCache groupDetailCache;
+    private final GroupTagBitmapIndex groupTagBitmapIndex;
+    private final GroupSearchIndex groupSearchIndex;
+    private final GroupGeoIndex groupGeoIndex;
 
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final int MAX_NEARBY_RADIUS_METERS = 20_000;
+    private static final double MAX_NEARBY_BOX_SPAN_DEG = 0.5;
 
-    @Transactional
-    public GetGroupResponse create(JwtUserPrincipal principal, CreateGroupRequest request,
-            List<MultipartFile> imageFiles) {
 
-        // 1) 호스트 유저 조회
+    /**
+     * 모임 생성. 태그 이름 → id 변환(없는 태그 upsert)은 모임 트랜잭션을 열기 전에 끝냅니다.
+     * (트랜잭션 안에서 upsert 용 커넥션을 하나 더 기다리지 않도록)
+     */
+    public GetGroupResponse create(JwtUserPrincipal principal, CreateGroupRequest request) {
+
+        // 1) 비즈니스 검증
+        validateCreateRequest(request);
+
+        // 2) 태그 이름 → id (캐시, 없는 태그는 별도 트랜잭션으로 upsert)
+        Map<String, Long> tagIdByName = resolveTags(request.tags());
+
+        return transactionTemplate.execute(status -> createGroup(principal, request, tagIdByName));
+    }
+
+    private GetGroupResponse createGroup(
+            JwtUserPrincipal principal,
+            CreateGroupRequest request,
+            Map<String, Long> tagIdByName
+    ) {
+        // 3) 호스트 유저 조회
         User host = userRepository.findById(principal.id())
                 .orElseThrow(() -> new GroupException(
                         GroupErrorCode.HOST_USER_NOT_FOUND,
                         principal.id()
                 ));
 
-        // 2) 비즈니스 검증
-        validateCreateRequest(request);
-
-        // 3) Group 엔티티 생성 및 저장
+        // 4) Group 엔티티 생성 및 저장
         Group group = Group.create(
                 request.title(),
                 request.location(),
@@ -69,93 +106,295 @@ public class GroupService {
                 request.endTime(),
                 request.description(),
                 request.maxParticipants(),
-                host
+                host,
+                request.latitude(),
+                request.longitude()
         );
         groupRepository.save(group);
+        groupSearchIndex.indexAfterCommit(GroupSearchSource.from(group));
+        if (group.hasCoordinates()) {
+            groupGeoIndex.addAfterCommit(GroupGeoSource.from(group));
+        }
 
-        // 4) 태그 저장
-        saveGroupTags(group, request.tags());
+        // 5) 태그 연결 (+ 커밋 후 태그 비트맵 색인 반영)
+        saveGroupTags(group, tagIdByName.values());
+        groupTagBitmapIndex.addAfterCommit(group.getId(), tagIdByName.values());
 
-        // 5) 호스트를 모임 참가자로 등록 (HOST 역할)
+        // 6) 호스트를 모임 참가자로 등록 (HOST 역할)
         saveHostAsGroupUser(group, host);
 
-        // 6) 이미지 업로드 + GroupImage 저장 (트랜잭션 안)
-        saveGroupImages(group, imageFiles);
+        // 다른 노드의 색인에도 반영 (커밋 이후 아웃박스 → pub/sub)
+        outboxPublisher.publish(GroupIndexChangedHandler.TYPE, group.getId(), null);
 
-        // 7) 응답 DTO 변환 (이미 group.images 가 채워진 상태)
-        return GetGroupResponse.from(group);
+        // 7) 응답 DTO 변환 (이미지는 커밋 이후 GroupImageService 가 트랜잭션 밖에서 등록,
+        //    태그 이름은 프록시를 초기화하지 않도록 요청 값 사용)
+        return GetGroupResponse.of(group, List.of(), List.copyOf(tagIdByName.keySet()));
     }
 
-    private void validateCreateRequest(CreateGroupRequest request) {
-        if (!request.endTime().isAfter(request.startTime())) {
-            throw new GroupException(GroupErrorCode.INVALID_TIME_RANGE);
+    /**
+     * 모임 상세 조회. L1(로컬) → L2(Redis) → DB 순으로 조회합니다.
+     *
+     * @param imageVariant {@code images} 에 담을 이미지 크기 (캐시에는 모든 크기를 함께 저장)
+     */
+    public GetGroupResponse getGroup(Long groupId, ImageVariant imageVariant) {
+        return groupDetailCache.get(groupId, this::loadGroupDetail).withImageVariant(imageVariant);
+    }
+
+    /**
+     * 모임 피드 (keyset 페이지네이션). 다음 페이지 여부는 size + 1 건을 조회해 판단합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ {@value #MAX_FEED_SIZE})
+     */
+    public GroupFeedResponse getFeed(String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_FEED_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<GroupFeedItem> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = groupRepository.findFeed(now, limit);
+        } else {
+            GroupFeedCursor after = GroupFeedCursor.decode(cursor);
+            rows = groupRepository.findFeedAfter(now, after.startTime(), after.groupId(), limit);
         }
 
-        if (request.maxParticipants() == null || request.maxParticipants() < 2) {
-            throw new GroupException(GroupErrorCode.INVALID_MAX_PARTICIPANTS);
+        boolean hasNext = rows.size() > pageSize;
+        List<GroupFeedItem> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? GroupFeedCursor.from(items.get(items.size() - 1)).encode() : null;
+
+        return new GroupFeedResponse(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 태그 조합 검색. 태그 비트맵 색인으로 모임 id 한 페이지를 고른 뒤 그 id 들만 DB 에서 조회합니다.
+     *
+     * @param allOf  모두 포함 (AND)
+     * @param anyOf  하나 이상 포함 (OR)
+     * @param noneOf 제외 (NOT)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public GroupFeedResponse searchByTags(
+            List<String> allOf,
+            List<String> anyOf,
+            List<String> noneOf,
+            String cursor,
+            int size
+    ) {
+        if (!groupTagBitmapIndex.isReady()) {
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
         }
+
+        int pageSize = Math.clamp(size, 1, MAX_FEED_SIZE);
+        long afterGroupId = parseIdCursor(cursor);
+
+        Map<String, Long> tagIdByName = resolveTagIds(allOf, anyOf, noneOf);
+        List<Long> allOfIds = toTagIds(allOf, tagIdByName);
+        List<Long> anyOfIds = toTagIds(anyOf, tagIdByName);
+        List<Long> noneOfIds = toTagIds(noneOf, tagIdByName);
+
+        // 존재하지 않는 태그를 AND 로 요구하거나, OR 후보가 모두 없는 태그면 결과 없음
+        boolean unknownRequired = allOfIds.size() < normalizeTagNames(allOf).size();
+        boolean noKnownOptional = !normalizeTagNames(anyOf).isEmpty() && anyOfIds.isEmpty();
+        if (unknownRequired || noKnownOptional) {
+            return new GroupFeedResponse(List.of(), null, false);
+        }
+
+        List<Long> ids = groupTagBitmapIndex.search(allOfIds, anyOfIds, noneOfIds, afterGroupId, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        Map<Long, GroupFeedItem> itemById = groupRepository.findFeedItemsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(GroupFeedItem::id, Function.identity()));
+
+        // 색인 순서(id 오름차순) 유지, 그 사이 삭제된 모임은 제외
+        List<GroupFeedItem> items = pageIds.stream()
+                .map(itemById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+        return new GroupFeedResponse(items, nextCursor, hasNext);
     }
 
-    // 롤백 시 S3 고아 파일 문제 해결
-    private void registerImageUploadAfterCommit(Group group, List<MultipartFile> imageFiles) {
-        if (imageFiles == null || imageFiles.isEmpty()) {
-            return;
+    /**
+     * 제목/설명/장소 전문 검색. 색인에서 관련도 순으로 한 페이지를 고른 뒤 그 id 들만 DB 에서 조회합니다.
+     *
+     * @param query  검색어 (1 ~ {@value #MAX_SEARCH_QUERY_LENGTH}자)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public GroupSearchResponse searchByText(String query, String cursor, int size) {
+        String text = query != null ? query.strip() : "";
+        if (text.isEmpty() || text.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new GroupException(GroupErrorCode.INVALID_SEARCH_QUERY, MAX_SEARCH_QUERY_LENGTH);
         }
 
-        // 현재 트랜잭션이 있을 때만 등록
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            // 혹시라도 트랜잭션 밖에서 호출되면 그냥 즉시 실행
-            saveGroupImages(group, imageFiles);
-            return;
+        int pageSize = Math.clamp(size, 1, MAX_FEED_SIZE);
+        GroupSearchIndex.Hit after = cursor == null || cursor.isBlank()
+                ? null
+                : GroupSearchCursor.decode(cursor).toHit();
+
+        List<GroupSearchIndex.Hit> hits = groupSearchIndex.search(text, after, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<GroupSearchIndex.Hit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        List<Long> ids = pageHits.stream().map(GroupSearchIndex.Hit::groupId).toList();
+        Map<Long, GroupFeedItem> itemById = groupRepository.findFeedItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(GroupFeedItem::id, Function.identity()));
+
+        // 관련도 순서 유지, 색인에 남아 있더라도 DB 에서 삭제된 모임은 제외
+        List<GroupSearchResponse.Item> items = pageHits.stream()
+                .filter(hit -> itemById.containsKey(hit.groupId()))
+                .map(hit -> new GroupSearchResponse.Item(itemById.get(hit.groupId()), hit.score(), hit.highlights()))
+                .toList();
+
+        String nextCursor = hasNext ? GroupSearchCursor.from(pageHits.get(pageHits.size() - 1)).encode() : null;
+        return new GroupSearchResponse(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 중심 좌표 반경 안의 진행 예정 모임. 메모리 격자 색인만 조회합니다.
+     *
+     * @param radiusMeters 반경 (1 ~ {@value #MAX_NEARBY_RADIUS_METERS}m)
+     */
+    public GroupNearbyResponse getNearby(double latitude, double longitude, int radiusMeters, NearbySort sort, int size) {
+        if (!isValidCoordinate(latitude, longitude) || radiusMeters < 1 || radiusMeters > MAX_NEARBY_RADIUS_METERS) {
+            throw new GroupException(GroupErrorCode.INVALID_SEARCH_AREA, MAX_NEARBY_RADIUS_METERS);
         }
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                // 트랜잭션 커밋이 성공한 뒤에만 호출됨
-                saveGroupImages(group, imageFiles);
-            }
-        });
+        return toNearbyResponse(groupGeoIndex()
+                .withinRadius(latitude, longitude, radiusMeters, sort, Math.clamp(size, 1, MAX_FEED_SIZE)));
     }
 
-    private void saveGroupImages(Group group, List<MultipartFile> imageFiles) {
-        if (imageFiles == null || imageFiles.isEmpty()) {
-            return;
+    /**
+     * 영역(남서 ~ 북동) 안의 진행 예정 모임. 거리는 영역 중앙 기준이며 메모리 격자 색인만 조회합니다.
+     * (가로/세로 각각 최대 {@value #MAX_NEARBY_BOX_SPAN_DEG}도)
+     */
+    public GroupNearbyResponse getWithinBox(
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            NearbySort sort,
+            int size
+    ) {
+        boolean valid = isValidCoordinate(minLatitude, minLongitude)
+                && isValidCoordinate(maxLatitude, maxLongitude)
+                && minLatitude <= maxLatitude
+                && minLongitude <= maxLongitude
+                && maxLatitude - minLatitude <= MAX_NEARBY_BOX_SPAN_DEG
+                && maxLongitude - minLongitude <= MAX_NEARBY_BOX_SPAN_DEG;
+        if (!valid) {
+            throw new GroupException(GroupErrorCode.INVALID_SEARCH_BOX, MAX_NEARBY_BOX_SPAN_DEG);
         }
 
-        List<GroupImage> entities = new ArrayList<>();
-        List<String> uploadedKeys = new ArrayList<>();
+        return toNearbyResponse(groupGeoIndex().withinBox(
+                minLatitude, minLongitude, maxLatitude, maxLongitude, sort, Math.clamp(size, 1, MAX_FEED_SIZE)));
+    }
 
+    private GroupGeoIndex groupGeoIndex() {
+        if (!groupGeoIndex.isReady()) {
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        }
+        return groupGeoIndex;
+    }
+
+    private static GroupNearbyResponse toNearbyResponse(List<GroupGeoIndex.Match> matches) {
+        return new GroupNearbyResponse(matches.stream()
+                .map(match -> new GroupNearbyResponse.Item(
+                        match.source().toFeedItem(),
+                        Math.round(match.distanceMeters())
+                ))
+                .toList());
+    }
+
+    private static boolean isValidCoordinate(double latitude, double longitude) {
+        return latitude >= -90.0 && latitude <= 90.0 && longitude >= -180.0 && longitude <= 180.0;
+    }
+
+    private Map<String, Long> resolveTagIds(List<String> allOf, List<String> anyOf, List<String> noneOf) {
+        List<String> names = new ArrayList<>();
+        names.addAll(normalizeTagNames(allOf));
+        names.addAll(normalizeTagNames(anyOf));
+        names.addAll(normalizeTagNames(noneOf));
+
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        return tagResolver.findIds(names.stream().distinct().toList());
+    }
+
+    private static List<Long> toTagIds(List<String> names, Map<String, Long> tagIdByName) {
+        return normalizeTagNames(names).stream()
+                .map(tagIdByName::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<String> normalizeTagNames(List<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        return names.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    private static long parseIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
         try {
-            for (int i = 0; i < imageFiles.size(); i++) {
-                MultipartFile file = imageFiles.get(i);
-                if (file == null || file.isEmpty()) {
-                    continue;
-                }
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new GroupException(GroupErrorCode.INVALID_CURSOR);
+        }
+    }
 
-                ImageStorageService.UploadedImage uploaded =
-                        imageStorageService.uploadGroupImage(group.getId(), file, i);
+    /**
+     * 캐시 미스 시 적재. 연관관계를 지연 로딩하지 않고 고정된 3개 쿼리로 조회합니다.
+     * (모임+호스트 fetch join / 이미지 URL / 태그 이름, 참여 인원은 모임의 participant_count)
+     *
+     * <p>캐시 적재 경로라 메서드 단위 트랜잭션은 열지 않습니다. 각 쿼리는 짧은 읽기 트랜잭션으로 수행됩니다.</p>
+     */
+    private GetGroupResponse loadGroupDetail(Long groupId) {
+        Group group = groupRepository.findDetailById(groupId)
+                .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND, groupId));
+
+        List<GetGroupResponse.Image> images = groupImageRepository.findImagesByGroupId(groupId).stream()
+                .map(image -> new GetGroupResponse.Image(image.imageUrl(), image.mediumUrl(), image.thumbnailUrl()))
+                .toList();
+        List<String> tagNames = groupTagRepository.findTagNamesByGroupId(groupId);
 
-                uploadedKeys.add(uploaded.key());
+        return GetGroupResponse.of(group, images, tagNames);
+    }
 
-                GroupImage image = GroupImage.create(group, uploaded.url(), i);
-                entities.add(image);
-            }
+    private void validateCreateRequest(CreateGroupRequest request) {
+        if (!request.endTime().isAfter(request.startTime())) {
+            throw new GroupException(GroupErrorCode.INVALID_TIME_RANGE);
+        }
 
-            if (!entities.isEmpty()) {
-                groupImageRepository.saveAll(entities);
-            }
-        } catch (RuntimeException e) {
-            // 이미 올라간 이미지들 삭제 (보상)
-            imageStorageService.deleteObjects(uploadedKeys);
-            // 필요하면 logger로 에러 남기고
-            throw new GroupException(GroupErrorCode.IMAGE_UPLOAD_FAILED, e);
+        if (request.maxParticipants() == null || request.maxParticipants() < 2) {
+            throw new GroupException(GroupErrorCode.INVALID_MAX_PARTICIPANTS);
+        }
+
+        if ((request.latitude() == null) != (request.longitude() == null)) {
+            throw new GroupException(GroupErrorCode.INVALID_COORDINATES);
         }
     }
 
-    private void saveGroupTags(Group group, List<String> tagNames) {
+    /**
+     * 태그 이름을 id 로 바꿉니다. 트랜잭션 밖에서 호출합니다. (이미 아는 태그만 있으면 쿼리 없음)
+     *
+     * @return 연결할 태그 이름 → id (요청 순서, 태그가 없으면 빈 map)
+     */
+    private Map<String, Long> resolveTags(List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
-            return;
+            return Map.of();
         }
 
         // 1) null, 공백 제거 + trim + 중복 제거
@@ -167,33 +406,28 @@ public class GroupService {
                 .toList();
 
         if (normalized.isEmpty()) {
-            return;
+            return Map.of();
         }
 
-        // 2) 이미 존재하는 태그 조회
-        List<Tag> existingTags = tagRepository.findByNameIn(normalized);
-
-        Map<String, Tag> tagByName = existingTags.stream()
-                .collect(Collectors.toMap(Tag::getName, Function.identity()));
-
-        // 3) 없는 태그는 새로 생성
-        List<Tag> newTags = normalized.stream()
-                .filter(name -> !tagByName.containsKey(name))
-                .map(Tag::create)
-                .toList();
+        // 2) 이름 → id (캐시, 없는 태그는 upsert)
+        Map<String, Long> tagIdByName = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        tagResolver.resolve(normalized).forEach((name, tagId) -> {
+            // 콜레이션상 같은 태그로 묶인 이름은 한 번만 연결
+            if (seen.add(tagId)) {
+                tagIdByName.put(name, tagId);
+            }
+        });
 
-        if (!newTags.isEmpty()) {
-            List<Tag> saved = tagRepository.saveAll(newTags);
-            // 새로 생성된 태그도 map에 추가
-            saved.forEach(tag -> tagByName.put(tag.getName(), tag));
-        }
+        return tagIdByName;
+    }
 
-        // 4) GroupTag 저장 (normalized 순서대로)
-        List<GroupTag> groupTags = normalized.stream()
-                .map(name -> {
-                    Tag tag = tagByName.get(name); // 무조건 존재
-                    return GroupTag.create(group, tag);
-                })
+    /**
+     * 태그를 연결합니다. 태그 테이블은 조회하지 않고 id 로 프록시만 만듭니다. (요청 순서대로 저장)
+     */
+    private void saveGroupTags(Group group, Collection<Long> tagIds) {
+        List<GroupTag> groupTags = tagIds.stream()
+                .map(tagId -> GroupTag.create(group, tagRepository.getReferenceById(tagId)))
                 .toList();
 
         groupTagRepository.saveAll(groupTags);
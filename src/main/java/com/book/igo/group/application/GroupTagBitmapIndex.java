@@ -0,0 +1,273 @@
+package com.book.igo.group.application;
+
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupTagPair;
+import com.book.igo.group.domain.repository.GroupTagRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 id → 활성 모임 id 압축 비트맵(Roaring) 역색인.
+ *
+ * <p>여러 태그를 AND/OR/NOT 으로 조합한 필터를 {@code v1_group_tags} 조인 대신 메모리 비트맵 연산으로 풀고,
+ * 결과 중 한 페이지의 모임 id 만 DB 에서 조회합니다.</p>
+ *
+ * <ul>
+ *   <li>적재: 기동 완료 후, 이후 {@code rebuild-interval-ms} 마다 group_tag_id keyset 으로 끊어 읽어
+ *       새 비트맵을 만든 뒤 교체 (동기화 이벤트 유실 복구)</li>
+ *   <li>갱신: 태그 저장 트랜잭션이 커밋된 뒤 {@link #addAfterCommit} 로 반영. 다른 노드의 변경은
+ *       {@link GroupIndexSync} 가 {@link #replaceGroup}/{@link #removeGroup} 으로 반영</li>
+ *   <li>동시성: 읽기는 read lock, 갱신/교체는 write lock. 적재 중 들어온 갱신은 교체 직후 다시 반영</li>
+ * </ul>
+ *
+ * @implNote 모임 id 는 int 범위(약 21억)까지만 색인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class GroupTagBitmapIndex {
+
+    private final GroupRepository groupRepository;
+    private final GroupTagRepository groupTagRepository;
+    private final int loadBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 으로 보호
+    private Map<Long, RoaringBitmap> groupsByTag = new HashMap<>();
+    private RoaringBitmap allGroups = new RoaringBitmap();
+    private boolean ready = false;
+    private List<Change> pendingDuringLoad = null;
+
+    public GroupTagBitmapIndex(
+            GroupRepository groupRepository,
+            GroupTagRepository groupTagRepository,
+            @Value("${group.tag-index.load-batch-size:10000}") int loadBatchSize
+    ) {
+        this.groupRepository = groupRepository;
+        this.groupTagRepository = groupTagRepository;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${group.tag-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${group.tag-index.rebuild-interval-ms:600000}"
+    )
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Map<Long, RoaringBitmap> loadedByTag = new HashMap<>();
+        RoaringBitmap loadedAll = new RoaringBitmap();
+        long rows = 0;
+
+        // 태그가 없는 모임도 NOT 필터 결과에 포함되도록 활성 모임 전체를 먼저 적재
+        long afterGroupId = 0L;
+        while (true) {
+            List<Long> batch = groupRepository.findActiveIdsAfter(afterGroupId, Limit.of(loadBatchSize));
+            batch.forEach(groupId -> loadedAll.add(toIntId(groupId)));
+
+            if (batch.size() < loadBatchSize) {
+                break;
+            }
+            afterGroupId = batch.get(batch.size() - 1);
+        }
+
+        long afterId = 0L;
+        while (true) {
+            List<GroupTagPair> batch = groupTagRepository.findActivePairsAfter(afterId, Limit.of(loadBatchSize));
+            for (GroupTagPair pair : batch) {
+                put(loadedByTag, loadedAll, pair);
+            }
+            rows += batch.size();
+
+            if (batch.size() < loadBatchSize) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).groupTagId();
+        }
+
+        loadedByTag.values().forEach(RoaringBitmap::runOptimize);
+        loadedAll.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : pendingDuringLoad) {
+                change.apply(loadedByTag, loadedAll);
+            }
+            groupsByTag = loadedByTag;
+            allGroups = loadedAll;
+            pendingDuringLoad = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Group tag bitmap index loaded: rows={}, tags={}, groups={}, took={}ms",
+                rows, loadedByTag.size(), loadedAll.getCardinality(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모임과 모임-태그 연결을 색인에 추가합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void addAfterCommit(Long groupId, Collection<Long> tagIds) {
+        // tagId 가 null 인 항목은 "모임만 추가"를 뜻함 (태그 없는 모임)
+        List<GroupTagPair> pairs = new ArrayList<>();
+        pairs.add(new GroupTagPair(null, groupId, null));
+        tagIds.forEach(tagId -> pairs.add(new GroupTagPair(null, groupId, tagId)));
+
+        Change change = (byTag, all) -> pairs.forEach(pair -> put(byTag, all, pair));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    /**
+     * 모임의 태그 연결을 주어진 태그로 바꿉니다. (DB 에서 다시 읽은 값으로 즉시 반영, 여러 번 호출해도 결과 같음)
+     */
+    public void replaceGroup(Long groupId, Collection<Long> tagIds) {
+        List<Long> copied = List.copyOf(tagIds);
+        apply((byTag, all) -> {
+            remove(byTag, all, groupId);
+            put(byTag, all, new GroupTagPair(null, groupId, null));
+            copied.forEach(tagId -> put(byTag, all, new GroupTagPair(null, groupId, tagId)));
+        });
+    }
+
+    /**
+     * 모임을 색인에서 즉시 제거합니다. (삭제됐거나 DB 에 없는 모임)
+     */
+    public void removeGroup(Long groupId) {
+        apply((byTag, all) -> remove(byTag, all, groupId));
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 태그 필터 결과 중 {@code afterGroupId} 보다 큰 모임 id 를 오름차순으로 최대 {@code limit} 개 반환합니다.
+     *
+     * @param allOf  모두 포함해야 하는 태그 id (AND)
+     * @param anyOf  하나 이상 포함해야 하는 태그 id (OR, 비어 있으면 조건 없음)
+     * @param noneOf 포함하면 안 되는 태그 id (NOT)
+     */
+    public List<Long> search(
+            Collection<Long> allOf,
+            Collection<Long> anyOf,
+            Collection<Long> noneOf,
+            long afterGroupId,
+            int limit
+    ) {
+        lock.readLock().lock();
+        try {
+            // 가장 좁은 집합에서 시작 (AND → OR → 전체 순), 원본 비트맵은 변경하지 않음
+            RoaringBitmap result;
+            if (!allOf.isEmpty()) {
+                result = FastAggregation.and(allOf.stream().map(this::bitmapOf).iterator());
+                if (!anyOf.isEmpty()) {
+                    result.and(FastAggregation.or(anyOf.stream().map(this::bitmapOf).iterator()));
+                }
+            } else if (!anyOf.isEmpty()) {
+                result = FastAggregation.or(anyOf.stream().map(this::bitmapOf).iterator());
+            } else {
+                result = allGroups.clone();
+            }
+
+            for (Long tagId : noneOf) {
+                result.andNot(bitmapOf(tagId));
+            }
+
+            List<Long> page = new ArrayList<>(limit);
+            PeekableIntIterator it = result.getIntIterator();
+            if (afterGroupId >= 0) {
+                it.advanceIfNeeded((int) Math.min(afterGroupId + 1, Integer.MAX_VALUE));
+            }
+            while (it.hasNext() && page.size() < limit) {
+                page.add(Integer.toUnsignedLong(it.next()));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap bitmapOf(Long tagId) {
+        RoaringBitmap bitmap = groupsByTag.get(tagId);
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.apply(groupsByTag, allGroups);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void put(Map<Long, RoaringBitmap> byTag, RoaringBitmap all, GroupTagPair pair) {
+        int groupId = toIntId(pair.groupId());
+        all.add(groupId);
+        if (pair.tagId() != null) {
+            byTag.computeIfAbsent(pair.tagId(), key -> new RoaringBitmap()).add(groupId);
+        }
+    }
+
+    private static void remove(Map<Long, RoaringBitmap> byTag, RoaringBitmap all, Long groupId) {
+        int id = toIntId(groupId);
+        all.remove(id);
+        byTag.values().forEach(bitmap -> bitmap.remove(id));
+    }
+
+    private static int toIntId(Long groupId) {
+        return Math.toIntExact(groupId);
+    }
+
+    /**
+     * 비트맵 변경 한 건. 적재 중이면 새 비트맵에도 다시 적용합니다. (외부 lock 으로 보호)
+     */
+    @FunctionalInterface
+    private interface Change {
+
+        void apply(Map<Long, RoaringBitmap> byTag, RoaringBitmap all);
+    }
+}
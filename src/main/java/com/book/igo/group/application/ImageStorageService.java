@@ -1,24 +1,64 @@
 package com.book.igo.group.application;
 
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ImageStorageService {
 
+    // S3 DeleteObjects 한 요청의 최대 키 수
+    static final int MAX_DELETE_BATCH = 1000;
+
+    private static final String GROUP_PREFIX = "groups/";
+    private static final String VARIANT_DIR = "variants/";
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -26,48 +66,351 @@ public class ImageStorageService {
     @Value("${aws.s3.public-base-url}")
     private String publicBaseUrl;
 
-    public UploadedImage uploadGroupImage(Long groupId, MultipartFile file, int index) {
-        String originalFilename = file.getOriginalFilename();
-        String ext = "";
+    @Value("${aws.s3.presign-ttl-ms:600000}")
+    private long presignTtlMs;
 
-        if (originalFilename != null && originalFilename.contains(".")) {
-            ext = originalFilename.substring(originalFilename.lastIndexOf("."));
+    @Value("${aws.s3.upload.max-concurrency:16}")
+    private int uploadMaxConcurrency;
+
+    @Value("${aws.s3.upload.acquire-timeout-ms:2000}")
+    private long uploadAcquireTimeoutMs;
+
+    @Value("${aws.s3.upload.timeout-ms:30000}")
+    private long uploadTimeoutMs;
+
+    private Semaphore uploadPermits;
+    private ExecutorService uploadStreamExecutor;
+
+    @PostConstruct
+    void init() {
+        // 업로드 본문(InputStream)을 읽어 SDK 로 흘려보내는 스레드. 동시 업로드 수(permit)만큼만 필요
+        uploadPermits = new Semaphore(uploadMaxConcurrency);
+        uploadStreamExecutor = Executors.newFixedThreadPool(
+                uploadMaxConcurrency,
+                Thread.ofPlatform().name("image-upload-", 1).daemon(true).factory()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploadStreamExecutor.shutdown();
+    }
+
+    /**
+     * 한 요청의 이미지들을 비동기 클라이언트로 동시에 업로드합니다.
+     *
+     * <ul>
+     *   <li>각 파일은 {@link MultipartFile#getInputStream()} 을 그대로 흘려보내며 힙에 통째로 복사하지 않습니다.</li>
+     *   <li>노드 전체 동시 업로드 수는 {@code aws.s3.upload.max-concurrency} 로 제한하고,
+     *       {@code acquire-timeout-ms} 안에 자리를 얻지 못하면 503 으로 거절합니다.</li>
+     *   <li>하나라도 실패하면 나머지가 끝나길 기다린 뒤 이 호출에서 만든 키를 모두 지우고 첫 예외를 던집니다.</li>
+     * </ul>
+     *
+     * @return 업로드된 이미지 (입력 순서 유지)
+     */
+    public List<UploadedImage> uploadGroupImages(Long groupId, List<MultipartFile> files) {
+        List<String> keys = new ArrayList<>();
+        List<CompletableFuture<PutObjectResponse>> uploads = new ArrayList<>();
+        RuntimeException failure = null;
+
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            String key = newGroupImageKey(groupId, i, extensionOf(file.getOriginalFilename()));
+            try {
+                uploads.add(startUpload(key, file));
+                keys.add(key);
+            } catch (RuntimeException e) {
+                failure = e;
+                break;
+            }
         }
 
-        String timestamp = LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(uploadTimeoutMs);
+        for (CompletableFuture<PutObjectResponse> upload : uploads) {
+            try {
+                upload.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                upload.cancel(true);
+                failure = failure != null ? failure : new IllegalStateException("Image upload timed out", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                upload.cancel(true);
+                failure = failure != null ? failure : new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+            } catch (ExecutionException e) {
+                failure = failure != null ? failure : asRuntime(e.getCause());
+            }
+        }
 
-        // ex) groups/201/20251201153000_0_xxx.jpg
-        String key =
-                "groups/" + groupId + "/" + timestamp + "_" + index + "_" + UUID.randomUUID() + ext;
+        if (failure != null) {
+            // 실패/취소된 키도 함께 지움 (없는 키 삭제는 무시됨)
+            deleteObjects(keys);
+            throw failure;
+        }
+        return keys.stream()
+                .map(key -> new UploadedImage(key, urlOf(key)))
+                .toList();
+    }
+
+    /**
+     * 모임 이미지 직접 업로드용 presigned PUT URL 을 발급합니다.
+     *
+     * <p>Content-Type, Content-Length, ACL 까지 서명에 포함하므로 클라이언트는
+     * {@link PresignedUpload#headers()} 를 그대로 보내야 하고, 다른 크기/형식의 파일은 올릴 수 없습니다.</p>
+     *
+     * @param ext 확장자 (점 포함, 예: ".jpg")
+     */
+    public PresignedUpload presignGroupImageUpload(
+            Long groupId,
+            int index,
+            String ext,
+            String contentType,
+            long contentLength
+    ) {
+        String key = newGroupImageKey(groupId, index, ext);
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presign -> presign
+                .signatureDuration(Duration.ofMillis(presignTtlMs))
+                .putObjectRequest(put -> put
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .acl(ObjectCannedACL.PUBLIC_READ)));
+
+        return new PresignedUpload(
+                key,
+                presigned.url().toString(),
+                presigned.signedHeaders(),
+                presigned.expiration().toEpochMilli()
+        );
+    }
+
+    /**
+     * 업로드된 객체의 메타데이터를 조회합니다. (HEAD, 본문은 내려받지 않음)
+     *
+     * @return 객체가 없으면 empty
+     */
+    public Optional<StoredObject> findObject(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+            return Optional.of(new StoredObject(key, head.contentLength(), head.contentType()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 해당 모임 전용 경로의 키인지 확인합니다. (다른 모임/경로의 객체를 붙이지 못하도록)
+     */
+    public boolean isGroupImageKey(Long groupId, String key) {
+        return key != null
+                && key.startsWith(GROUP_PREFIX + groupId + "/")
+                && !key.contains("..");
+    }
+
+    public String urlOf(String key) {
+        return publicBaseUrl + "/" + key;
+    }
+
+    /**
+     * {@link #urlOf} 의 역변환. 이 버킷의 공개 URL 이 아니면 empty.
+     */
+    public Optional<String> keyOf(String url) {
+        String prefix = publicBaseUrl + "/";
+        if (url == null || !url.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        return Optional.of(url.substring(prefix.length()));
+    }
+
+    /**
+     * 원본 키 옆에 둘 파생본 키를 만듭니다. 같은 원본/이름이면 항상 같은 키라 재처리해도 덮어쓰기만 합니다.
+     *
+     * <p>ex) groups/201/20251201153000_0_xxx.png → groups/201/variants/20251201153000_0_xxx_thumb.jpg</p>
+     *
+     * @param ext 확장자 (점 포함)
+     */
+    public String variantKeyOf(String originalKey, String variantName, String ext) {
+        int slash = originalKey.lastIndexOf('/');
+        String fileName = originalKey.substring(slash + 1);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+
+        return originalKey.substring(0, slash + 1) + VARIANT_DIR + baseName + "_" + variantName + ext;
+    }
+
+    /**
+     * 객체 본문을 스트림으로 엽니다. 호출부가 닫아야 합니다.
+     */
+    public InputStream openObject(String key) {
+        return s3Client.getObject(builder -> builder.bucket(bucket).key(key));
+    }
+
+    /**
+     * 서버에서 만든 작은 객체(파생 이미지 등)를 공개 읽기로 저장합니다.
+     *
+     * @return 공개 URL
+     */
+    public String putObject(String key, byte[] bytes, String contentType) {
+        s3Client.putObject(
+                builder -> builder.bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .acl(ObjectCannedACL.PUBLIC_READ),
+                RequestBody.fromBytes(bytes)
+        );
+        return urlOf(key);
+    }
 
+    public void deleteObject(String key) {
+        s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+    }
+
+    /**
+     * 한 요청에 최대 {@value #MAX_DELETE_BATCH} 개씩 나눠 지웁니다. (없는 키는 성공으로 처리됨)
+     *
+     * @return 지우지 못한 키 (로그로도 남김)
+     */
+    public List<String> deleteObjects(List<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> batch = keys.subList(from, Math.min(from + MAX_DELETE_BATCH, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            // quiet: 응답에 실패한 키만 담김
+            DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                    .bucket(bucket)
+                    .delete(delete -> delete.objects(batch).quiet(true)));
+
+            for (S3Error error : response.errors()) {
+                log.warn("Object delete failed. key={}, code={}, message={}",
+                        error.key(), error.code(), error.message());
+                failed.add(error.key());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 모임 이미지 경로({@code groups/}) 객체를 키 사전순으로 한 페이지씩 나열합니다.
+     *
+     * @param continuationToken 이전 페이지의 {@link ObjectPage#nextToken()} (첫 페이지면 null)
+     */
+    public ObjectPage listGroupObjects(String continuationToken, int pageSize) {
+        ListObjectsV2Response response = s3Client.listObjectsV2(builder -> builder
+                .bucket(bucket)
+                .prefix(GROUP_PREFIX)
+                .maxKeys(pageSize)
+                .continuationToken(continuationToken));
+
+        List<ObjectSummary> objects = response.contents().stream()
+                .map(object -> new ObjectSummary(object.key(), object.size(), object.lastModified()))
+                .toList();
+        return new ObjectPage(objects, response.isTruncated() ? response.nextContinuationToken() : null);
+    }
+
+    private CompletableFuture<PutObjectResponse> startUpload(String key, MultipartFile file) {
+        acquireUploadPermit();
+
+        InputStream in = null;
         try {
+            in = file.getInputStream();
+            InputStream body = in;
+
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
                     .contentType(file.getContentType())
+                    .contentLength(file.getSize())
                     .acl(ObjectCannedACL.PUBLIC_READ)
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+            // 크기가 multipart-threshold-bytes 를 넘으면 클라이언트가 multipart upload 로 나눠 보냄
+            return s3AsyncClient.putObject(
+                            putObjectRequest,
+                            AsyncRequestBody.fromInputStream(body, file.getSize(), uploadStreamExecutor))
+                    .whenComplete((response, e) -> {
+                        uploadPermits.release();
+                        closeQuietly(body);
+                    });
         } catch (IOException e) {
-            throw new RuntimeException("이미지 업로드 실패", e);
+            uploadPermits.release();
+            throw new UncheckedIOException("이미지 업로드 실패", e);
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            closeQuietly(in);
+            throw e;
         }
+    }
 
-        String url = publicBaseUrl + "/" + key;
-        return new UploadedImage(key, url);
+    private void acquireUploadPermit() {
+        try {
+            if (!uploadPermits.tryAcquire(uploadAcquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Image upload rejected: concurrency limit reached. limit={}", uploadMaxConcurrency);
+                throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(AppErrorCode.SERVICE_UNAVAILABLE);
+        }
     }
 
-    public void deleteObject(String key) {
-        s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+    private static RuntimeException asRuntime(Throwable cause) {
+        Throwable unwrapped = cause instanceof CompletionException && cause.getCause() != null
+                ? cause.getCause()
+                : cause;
+        return unwrapped instanceof RuntimeException runtime
+                ? runtime
+                : new IllegalStateException("Image upload failed", unwrapped);
     }
 
-    public void deleteObjects(List<String> keys) {
-        for (String key : keys) {
-            deleteObject(key);
+    private static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
         }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 임시 파일 스트림 정리 실패는 무시
+        }
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename != null && originalFilename.contains(".")) {
+            return originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return "";
+    }
+
+    private static String newGroupImageKey(Long groupId, int index, String ext) {
+        String timestamp = LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+        // ex) groups/201/20251201153000_0_xxx.jpg
+        return GROUP_PREFIX + groupId + "/" + timestamp + "_" + index + "_" + UUID.randomUUID() + ext;
     }
 
     public record UploadedImage(String key, String url) {
     }
+
+    /**
+     * @param headers     업로드 요청에 그대로 실어야 하는 서명된 헤더
+     * @param expiresAtMs URL 만료 시각 (epoch ms)
+     */
+    public record PresignedUpload(String key, String url, Map<String, List<String>> headers, long expiresAtMs) {
+    }
+
+    public record StoredObject(String key, long size, String contentType) {
+    }
+
+    public record ObjectSummary(String key, long size, Instant lastModified) {
+    }
+
+    /**
+     * @param nextToken 다음 페이지 토큰 (마지막 페이지면 null)
+     */
+    public record ObjectPage(List<ObjectSummary> objects, String nextToken) {
+    }
 }
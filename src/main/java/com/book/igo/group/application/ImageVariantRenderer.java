@@ -0,0 +1,121 @@
+package com.book.igo.group.application;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 모임 이미지 파생본 디코딩/축소/인코딩 (JDK ImageIO 만 사용).
+ *
+ * <p>JDK 에는 WebP 인코더가 없어 파생본은 품질을 지정한 JPEG 로 만듭니다. 투명 배경은 흰색으로 채웁니다.</p>
+ */
+final class ImageVariantRenderer {
+
+    static final String CONTENT_TYPE = "image/jpeg";
+    static final String EXTENSION = ".jpg";
+
+    private final long maxPixels;
+    private final float jpegQuality;
+
+    ImageVariantRenderer(long maxPixels, float jpegQuality) {
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 원본을 디코딩합니다. 긴 변이 {@code targetMaxEdge} 의 두 배를 넘으면 읽으면서 건너뛰어(subsampling) 메모리를 줄입니다.
+     *
+     * @return 읽을 수 없는 형식이거나 픽셀 수가 한도를 넘으면 empty (재시도해도 결과가 같음)
+     */
+    Optional<BufferedImage> decode(InputStream in, int targetMaxEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return Optional.empty();
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (targetMaxEdge * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return Optional.of(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 {@code maxEdge} 이하가 되도록 비율을 유지해 줄인 JPEG. 원본이 더 작으면 키우지 않습니다.
+     */
+    byte[] render(BufferedImage source, int maxEdge) throws IOException {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춤
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return encode(draw(current, targetWidth, targetHeight));
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
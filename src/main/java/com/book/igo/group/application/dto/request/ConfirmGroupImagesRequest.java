@@ -0,0 +1,12 @@
+package com.book.igo.group.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record ConfirmGroupImagesRequest(
+
+        @NotEmpty(message = "모임: 업로드한 이미지 키는 필수 입니다.")
+        List<@NotBlank String> keys
+) {
+}
@@ -1,5 +1,7 @@
 package com.book.igo.group.application.dto.request;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.Max;
@@ -19,6 +21,14 @@ public record CreateGroupRequest(
 
         String locationDetail,
 
+        @DecimalMin(value = "-90.0", message = "모임: 위도는 -90 ~ 90 사이여야 합니다.")
+        @DecimalMax(value = "90.0", message = "모임: 위도는 -90 ~ 90 사이여야 합니다.")
+        Double latitude,
+
+        @DecimalMin(value = "-180.0", message = "모임: 경도는 -180 ~ 180 사이여야 합니다.")
+        @DecimalMax(value = "180.0", message = "모임: 경도는 -180 ~ 180 사이여야 합니다.")
+        Double longitude,
+
         @NotNull(message = "모임: 시작 시간은 필수 입니다.")
         @FutureOrPresent(message = "모임: 시작 시간은 현재 이후여야 합니다.")
         LocalDateTime startTime,
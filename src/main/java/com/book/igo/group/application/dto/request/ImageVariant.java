@@ -0,0 +1,19 @@
+package com.book.igo.group.application.dto.request;
+
+/**
+ * 모임 상세 응답의 {@code images} 에 담을 이미지 크기. 파생본이 아직 없으면 원본 URL 을 대신 담습니다.
+ */
+public enum ImageVariant {
+
+    ORIGINAL,
+
+    /**
+     * 상세 화면용 중간 크기
+     */
+    MEDIUM,
+
+    /**
+     * 목록/미리보기용 썸네일
+     */
+    THUMBNAIL
+}
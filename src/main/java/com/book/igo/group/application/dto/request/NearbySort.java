@@ -0,0 +1,17 @@
+package com.book.igo.group.application.dto.request;
+
+/**
+ * 주변 모임 검색 정렬 기준. 앞 기준이 같으면 다른 기준, 그다음 모임 id 순으로 정렬합니다.
+ */
+public enum NearbySort {
+
+    /**
+     * 가까운 순 → 빨리 시작하는 순
+     */
+    DISTANCE,
+
+    /**
+     * 빨리 시작하는 순 → 가까운 순
+     */
+    START_TIME
+}
@@ -0,0 +1,26 @@
+package com.book.igo.group.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+
+public record PresignGroupImagesRequest(
+
+        @NotEmpty(message = "모임: 업로드할 이미지 정보는 필수 입니다.")
+        List<@Valid ImageFile> files
+) {
+
+    public record ImageFile(
+
+            @NotBlank(message = "모임: 이미지 Content-Type 은 필수 입니다.")
+            String contentType,
+
+            @NotNull(message = "모임: 이미지 크기는 필수 입니다.")
+            @Positive(message = "모임: 이미지 크기는 0보다 커야 합니다.")
+            Long size
+    ) {
+    }
+}
@@ -1,11 +1,10 @@
 package com.book.igo.group.application.dto.response;
 
+import com.book.igo.group.application.dto.request.ImageVariant;
 import com.book.igo.group.domain.entity.Group;
-import com.book.igo.group.domain.entity.GroupImage;
-import com.book.igo.group.domain.entity.GroupTag;
 import com.book.igo.user.domain.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 
 public record GetGroupResponse(
@@ -14,9 +13,12 @@ public record GetGroupResponse(
         String title,
         String location,
         String locationDetail,
+        Double latitude,
+        Double longitude,
         LocalDateTime startTime,
         LocalDateTime endTime,
         List<String> images,
+        List<Image> imageVariants,
         List<String> tags,
         String description,
         int participantCount,
@@ -24,55 +26,108 @@ public record GetGroupResponse(
         CreatedBy createdBy,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        int joinedCount
-) {
-
-    public static GetGroupResponse from(Group group) {
-
-        // 이미지 정렬 + URL 리스트
-        List<String> imageUrls = group.getImages().stream()
-                .sorted(Comparator.comparingInt(GroupImage::getSortOrder))
-                .map(GroupImage::getImageUrl)
-                .toList();
+        int joinedCount,
 
-        // 태그 이름 리스트
-        List<String> tagNames = group.getGroupTags().stream()
-                .map(GroupTag::getTag)
-                .map(tag -> tag.getName())   // Tag 엔티티의 name 필드 기준
-                .toList();
+        // 모임 생성 응답에서만 사용: 모임은 만들어졌지만 함께 보낸 이미지 등록이 실패한 사유
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String imageUploadError
+) {
 
-        // 현재 참여 인원: left_at == null 인 유저만 카운트
-        long activeUserCount = group.getUsers().stream()
-                .filter(gu -> gu.getLeftAt() == null)
-                .count();
+    /**
+     * 상세 조회용: 컬렉션을 엔티티 그래프 대신 미리 조회한 값으로 받아 지연 로딩 없이 변환합니다.
+     *
+     * @param group     호스트가 fetch join 된 모임
+     * @param images   sort_order 순 이미지 (원본/파생본 URL)
+     * @param tagNames 태그 이름
+     */
+    public static GetGroupResponse of(
+            Group group,
+            List<Image> images,
+            List<String> tagNames
+    ) {
+        int activeCount = group.getParticipantCount();
 
         User host = group.getHost();
 
-        CreatedBy createdBy = new CreatedBy(
-                host.getId(),
-                host.getNickName(),
-                host.getProfileImage()  // User 엔티티 필드명에 맞게 수정
-        );
-
         return new GetGroupResponse(
                 group.getId(),
                 group.getTitle(),
                 group.getLocation(),
                 group.getLocationDetail(),
+                group.getLatitude(),
+                group.getLongitude(),
                 group.getStartTime(),
                 group.getEndTime(),
-                imageUrls,
+                images.stream().map(Image::original).toList(),
+                images,
                 tagNames,
                 group.getDescription(),
-                (int) activeUserCount,             // participantCount
+                activeCount,
                 group.getMaxParticipants(),
-                createdBy,
-                group.getCreatedAt(),              // BaseTimeEntity 상속 전제
+                new CreatedBy(host.getId(), host.getNickName(), host.getProfileImage()),
+                group.getCreatedAt(),
                 group.getUpdatedAt(),
-                (int) activeUserCount              // joinedCount (여기서는 동일 의미로 사용)
+                activeCount,
+                null
         );
     }
 
+    /**
+     * 방금 등록한 원본 이미지로 교체합니다. (파생본은 아직 생성 전)
+     */
+    public GetGroupResponse withImages(List<String> imageUrls) {
+        return withImages(imageUrls, imageUrls.stream().map(url -> new Image(url, null, null)).toList());
+    }
+
+    /**
+     * 이미지 등록이 실패한 생성 응답. 이미지는 비우고 실패 사유를 담습니다. (이미지는 presigned 업로드로 다시 등록)
+     */
+    public GetGroupResponse withImageUploadError(String reason) {
+        return new GetGroupResponse(
+                id, title, location, locationDetail, latitude, longitude, startTime, endTime,
+                List.of(), List.of(), tags, description, participantCount, maxParticipants, createdBy,
+                createdAt, updatedAt, joinedCount, reason
+        );
+    }
+
+    /**
+     * {@code images} 를 요청한 크기의 URL 로 바꿉니다. 파생본이 없는 이미지는 원본 URL 을 그대로 둡니다.
+     */
+    public GetGroupResponse withImageVariant(ImageVariant variant) {
+        // 필드 추가 전에 캐시된 응답은 imageVariants 가 없음
+        if (variant == null || variant == ImageVariant.ORIGINAL || imageVariants == null) {
+            return this;
+        }
+        return withImages(imageVariants.stream().map(image -> image.urlOf(variant)).toList(), imageVariants);
+    }
+
+    private GetGroupResponse withImages(List<String> imageUrls, List<Image> variants) {
+        return new GetGroupResponse(
+                id, title, location, locationDetail, latitude, longitude, startTime, endTime,
+                imageUrls, variants, tags, description, participantCount, maxParticipants, createdBy,
+                createdAt, updatedAt, joinedCount, imageUploadError
+        );
+    }
+
+    /**
+     * 이미지 한 장의 크기별 URL. 파생본이 아직 없으면 null 입니다.
+     */
+    public record Image(
+            String original,
+            String medium,
+            String thumbnail
+    ) {
+
+        public String urlOf(ImageVariant variant) {
+            String url = switch (variant) {
+                case ORIGINAL -> original;
+                case MEDIUM -> medium;
+                case THUMBNAIL -> thumbnail;
+            };
+            return url != null ? url : original;
+        }
+    }
+
     public record CreatedBy(
             Long userId,
             String nickName,
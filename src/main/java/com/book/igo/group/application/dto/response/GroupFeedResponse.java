@@ -0,0 +1,18 @@
+package com.book.igo.group.application.dto.response;
+
+import com.book.igo.group.domain.repository.GroupFeedItem;
+import java.util.List;
+
+/**
+ * 모임 피드 한 페이지.
+ *
+ * @param items      모임 목록 (start_time, id 오름차순)
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 불투명 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record GroupFeedResponse(
+        List<GroupFeedItem> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,24 @@
+package com.book.igo.group.application.dto.response;
+
+import com.book.igo.group.domain.repository.GroupFeedItem;
+import java.util.List;
+
+/**
+ * 주변 모임 검색 결과.
+ *
+ * @param items 요청한 정렬 기준 순 모임 목록
+ */
+public record GroupNearbyResponse(
+        List<Item> items
+) {
+
+    /**
+     * @param group          모임 요약
+     * @param distanceMeters 기준점(반경 검색은 중심, 영역 검색은 영역 중앙)까지 거리(m)
+     */
+    public record Item(
+            GroupFeedItem group,
+            long distanceMeters
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.igo.group.application.dto.response;
+
+import com.book.igo.group.domain.repository.GroupFeedItem;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모임 전문 검색 한 페이지.
+ *
+ * @param items      검색 결과 (관련도 내림차순)
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 불투명 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record GroupSearchResponse(
+        List<Item> items,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * @param group      모임 요약
+     * @param score      관련도 점수 (BM25)
+     * @param highlights 필드명(title, location, description) → 검색어를 {@code <em>} 으로 감싼 발췌.
+     *                   본문은 HTML 이스케이프되어 있음
+     */
+    public record Item(
+            GroupFeedItem group,
+            float score,
+            Map<String, String> highlights
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.book.igo.group.application.dto.response;
+
+import com.book.igo.group.application.ImageStorageService.PresignedUpload;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직접 업로드용 presigned URL.
+ *
+ * @param key         업로드 후 확정 요청에 넘길 객체 키
+ * @param uploadUrl   PUT 요청 URL
+ * @param headers     PUT 요청에 그대로 실어야 하는 헤더 (서명에 포함됨)
+ * @param expiresAtMs URL 만료 시각 (epoch ms)
+ */
+public record PresignedImageResponse(
+        String key,
+        String uploadUrl,
+        Map<String, List<String>> headers,
+        long expiresAtMs
+) {
+
+    public static PresignedImageResponse from(PresignedUpload upload) {
+        return new PresignedImageResponse(upload.key(), upload.url(), upload.headers(), upload.expiresAtMs());
+    }
+}
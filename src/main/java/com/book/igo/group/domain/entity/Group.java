@@ -1,6 +1,7 @@
 package com.book.igo.group.domain.entity;
 
 import com.book.igo.common.domain.BaseTimeEntity;
+import com.book.igo.common.domain.IdGeneration;
 import com.book.igo.user.domain.entity.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -9,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -22,12 +25,24 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "v1_groups")
+@Table(
+        name = "v1_groups",
+        indexes = {
+                // 피드 keyset: deleted_at IS NULL 등치 + (start_time, group_id) 범위/정렬,
+                // end_time 은 인덱스 안에서 걸러 내도록(ICP) 마지막에 둠
+                @Index(name = "idx_groups_feed", columnList = "deleted_at, start_time, group_id, end_time")
+        }
+)
 @Entity
 public class Group extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_id_seq")
+    @SequenceGenerator(
+            name = "group_id_seq",
+            sequenceName = "v1_groups_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "group_id", nullable = false, unique = true)
     private Long id;
 
@@ -40,6 +55,13 @@ public class Group extends BaseTimeEntity {
     @Column(name = "location_detail", length = 255)
     private String locationDetail;
 
+    // 좌표(WGS84). 좌표 없이 만든 모임은 주변 검색에서 제외
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "start_time", nullable = false)
     private LocalDateTime startTime;
 
@@ -52,6 +74,11 @@ public class Group extends BaseTimeEntity {
     @Column(name = "max_participants", nullable = false)
     private Integer maxParticipants;
 
+    // 현재 참여 인원 (left_at == null 인 GroupUser 수). 참여/나가기 시 원자적 update 쿼리로만 바꾸므로
+    // 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false
+    @Column(name = "participant_count", nullable = false, updatable = false)
+    private int participantCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id", nullable = false)
     private User host;
@@ -76,7 +103,9 @@ public class Group extends BaseTimeEntity {
             LocalDateTime endTime,
             String description,
             Integer maxParticipants,
-            User host
+            User host,
+            Double latitude,
+            Double longitude
     ) {
         Group group = new Group();
         group.title = title;
@@ -87,9 +116,16 @@ public class Group extends BaseTimeEntity {
         group.description = description;
         group.maxParticipants = maxParticipants;
         group.host = host;
+        group.participantCount = 1; // 호스트
+        group.latitude = latitude;
+        group.longitude = longitude;
         return group;
     }
 
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
     // 연관관계 편의 메서드들
     public void addImage(GroupImage image) {
         this.images.add(image);
@@ -1,13 +1,17 @@
 package com.book.igo.group.domain.entity;
 
+import com.book.igo.common.domain.IdGeneration;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -20,13 +24,32 @@ import lombok.NoArgsConstructor;
 public class GroupImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_image_id_seq")
+    @SequenceGenerator(
+            name = "group_image_id_seq",
+            sequenceName = "v1_group_images_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "group_image_id", nullable = false, updatable = false)
     private Long id;
 
     @Column(name = "image_url", nullable = false, length = 255)
     private String imageUrl;
 
+    // 파생본 URL (생성 전이면 null)
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 255)
+    private String mediumUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", nullable = false, length = 20)
+    private ImageVariantStatus variantStatus;
+
+    @Column(name = "variant_attempts", nullable = false)
+    private int variantAttempts;
+
     @Column(name = "sort_order", nullable = false)
     private Integer sortOrder;
 
@@ -39,8 +62,21 @@ public class GroupImage {
         image.group = group;
         image.imageUrl = imageUrl;
         image.sortOrder = sortOrder;
+        image.variantStatus = ImageVariantStatus.PENDING;
         group.addImage(image);
         return image;
     }
 
+    /**
+     * 이미 저장된 모임에 이미지를 붙입니다. 모임의 이미지 컬렉션을 초기화하지 않도록 연관관계 편의 메서드를 호출하지 않습니다.
+     */
+    public static GroupImage attach(Group group, String imageUrl, int sortOrder) {
+        GroupImage image = new GroupImage();
+        image.group = group;
+        image.imageUrl = imageUrl;
+        image.sortOrder = sortOrder;
+        image.variantStatus = ImageVariantStatus.PENDING;
+        return image;
+    }
+
 }
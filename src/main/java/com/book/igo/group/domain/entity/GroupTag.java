@@ -1,6 +1,7 @@
 package com.book.igo.group.domain.entity;
 
 import com.book.igo.common.domain.BaseTimeEntity;
+import com.book.igo.common.domain.IdGeneration;
 import com.book.igo.tag.domain.entity.Tag;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -22,7 +24,12 @@ import lombok.NoArgsConstructor;
 public class GroupTag extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_tag_id_seq")
+    @SequenceGenerator(
+            name = "group_tag_id_seq",
+            sequenceName = "v1_group_tags_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "group_tag_id",  nullable = false, updatable = false)
     private Long id;
 
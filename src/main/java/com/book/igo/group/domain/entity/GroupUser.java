@@ -1,6 +1,7 @@
 package com.book.igo.group.domain.entity;
 
 import com.book.igo.common.domain.BaseTimeEntity;
+import com.book.igo.common.domain.IdGeneration;
 import com.book.igo.user.domain.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -25,7 +27,12 @@ import lombok.NoArgsConstructor;
 public class GroupUser extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_user_id_seq")
+    @SequenceGenerator(
+            name = "group_user_id_seq",
+            sequenceName = "v1_group_users_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,4 +62,20 @@ public class GroupUser extends BaseTimeEntity {
         group.addUser(groupUser);
         return groupUser;
     }
+
+    /**
+     * 참여 신청으로 합류한 회원. 모임의 참여자 컬렉션을 초기화하지 않도록 연관관계 편의 메서드를 호출하지 않습니다.
+     */
+    public static GroupUser join(Group group, User user) {
+        GroupUser groupUser = new GroupUser();
+        groupUser.group = group;
+        groupUser.user = user;
+        groupUser.groupRole = GroupRole.MEMBER;
+        groupUser.joinedAt = LocalDateTime.now();
+        return groupUser;
+    }
+
+    public boolean isHost() {
+        return groupRole == GroupRole.HOST;
+    }
 }
@@ -0,0 +1,22 @@
+package com.book.igo.group.domain.entity;
+
+/**
+ * 모임 이미지 파생본(썸네일/중간 크기) 생성 상태.
+ */
+public enum ImageVariantStatus {
+
+    /**
+     * 생성 대기 또는 재시도 대기
+     */
+    PENDING,
+
+    /**
+     * 파생본 URL 기록 완료
+     */
+    READY,
+
+    /**
+     * 재시도 한도 초과 또는 디코딩 불가. 원본만 사용
+     */
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.book.igo.group.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 피드 한 줄 projection. 엔티티 그래프 없이 모임 + 호스트 닉네임 컬럼만 조회합니다.
+ */
+public record GroupFeedItem(
+        Long id,
+        String title,
+        String location,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Integer maxParticipants,
+        Integer participantCount,
+        String hostNickName
+) {
+}
@@ -0,0 +1,48 @@
+package com.book.igo.group.domain.repository;
+
+import com.book.igo.group.domain.entity.Group;
+import java.time.LocalDateTime;
+
+/**
+ * 주변 검색 색인 원본. 피드 한 줄 projection + 좌표입니다.
+ */
+public record GroupGeoSource(
+        Long id,
+        String title,
+        String location,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Integer maxParticipants,
+        Integer participantCount,
+        String hostNickName,
+        double latitude,
+        double longitude
+) {
+
+    /**
+     * 좌표가 있는 모임에서만 호출해야 합니다. (호스트가 초기화되어 있어야 함)
+     */
+    public static GroupGeoSource from(Group group) {
+        return new GroupGeoSource(
+                group.getId(),
+                group.getTitle(),
+                group.getLocation(),
+                group.getStartTime(),
+                group.getEndTime(),
+                group.getMaxParticipants(),
+                group.getParticipantCount(),
+                group.getHost().getNickName(),
+                group.getLatitude(),
+                group.getLongitude()
+        );
+    }
+
+    public GroupFeedItem toFeedItem() {
+        return new GroupFeedItem(id, title, location, startTime, endTime, maxParticipants, participantCount, hostNickName);
+    }
+
+    public GroupGeoSource withParticipantCount(int participantCount) {
+        return new GroupGeoSource(id, title, location, startTime, endTime, maxParticipants,
+                participantCount, hostNickName, latitude, longitude);
+    }
+}
@@ -0,0 +1,12 @@
+package com.book.igo.group.domain.repository;
+
+/**
+ * 모임 id 와 이미지 한 장의 원본/파생본 URL projection. (고아 객체 점검용, 파생본이 없으면 null)
+ */
+public record GroupImageRefs(
+        Long groupId,
+        String imageUrl,
+        String mediumUrl,
+        String thumbnailUrl
+) {
+}
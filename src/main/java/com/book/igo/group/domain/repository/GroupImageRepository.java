@@ -1,9 +1,115 @@
 package com.book.igo.group.domain.repository;
 
-import com.book.igo.group.domain.entity.Group;
 import com.book.igo.group.domain.entity.GroupImage;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface GroupImageRepository extends JpaRepository<GroupImage, Long> {
 
+    @Query("""
+            select i.imageUrl
+            from GroupImage i
+            where i.group.id = :groupId
+            order by i.sortOrder
+            """)
+    List<String> findImageUrlsByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 다음 이미지의 정렬 순서 계산용 (이미지가 없으면 -1)
+     */
+    @Query("""
+            select coalesce(max(i.sortOrder), -1)
+            from GroupImage i
+            where i.group.id = :groupId
+            """)
+    int findMaxSortOrder(@Param("groupId") Long groupId);
+
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupImageUrls(
+                i.imageUrl, i.mediumUrl, i.thumbnailUrl
+            )
+            from GroupImage i
+            where i.group.id = :groupId
+            order by i.sortOrder
+            """)
+    List<GroupImageUrls> findImagesByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 여러 모임의 이미지 URL 을 모임 id 와 함께 한 번에 조회합니다. (고아 객체 점검용, 정렬 없음)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupImageRefs(
+                i.group.id, i.imageUrl, i.mediumUrl, i.thumbnailUrl
+            )
+            from GroupImage i
+            where i.group.id in :groupIds
+            """)
+    List<GroupImageRefs> findImagesByGroupIdIn(@Param("groupIds") Collection<Long> groupIds);
+
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupImageVariantSource(
+                i.id, i.group.id, i.imageUrl, i.variantStatus
+            )
+            from GroupImage i
+            where i.id = :imageId
+            """)
+    Optional<GroupImageVariantSource> findVariantSource(@Param("imageId") Long imageId);
+
+    /**
+     * 파생본 생성 대기 이미지 id (keyset). 점검 작업이 누락/재시도 대상을 다시 넣을 때 사용합니다.
+     */
+    @Query("""
+            select i.id
+            from GroupImage i
+            where i.variantStatus = com.book.igo.group.domain.entity.ImageVariantStatus.PENDING
+              and i.id > :afterId
+            order by i.id
+            """)
+    List<Long> findPendingVariantIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 파생본 URL 을 기록합니다. 이미 처리된 이미지는 건드리지 않습니다.
+     *
+     * @return 갱신된 행 수 (0 이면 다른 워커가 먼저 처리)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update GroupImage i
+            set i.thumbnailUrl = :thumbnailUrl,
+                i.mediumUrl = :mediumUrl,
+                i.variantStatus = com.book.igo.group.domain.entity.ImageVariantStatus.READY
+            where i.id = :imageId
+              and i.variantStatus = com.book.igo.group.domain.entity.ImageVariantStatus.PENDING
+            """)
+    int completeVariants(
+            @Param("imageId") Long imageId,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("mediumUrl") String mediumUrl
+    );
+
+    /**
+     * 실패 횟수를 올리고, {@code maxAttempts} 에 닿으면 더 이상 재시도하지 않도록 FAILED 로 바꿉니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update GroupImage i
+            set i.variantAttempts = i.variantAttempts + 1,
+                i.variantStatus = case
+                    when i.variantAttempts + 1 >= :maxAttempts
+                        then com.book.igo.group.domain.entity.ImageVariantStatus.FAILED
+                    else com.book.igo.group.domain.entity.ImageVariantStatus.PENDING
+                end
+            where i.id = :imageId
+              and i.variantStatus = com.book.igo.group.domain.entity.ImageVariantStatus.PENDING
+            """)
+    int recordVariantFailure(@Param("imageId") Long imageId, @Param("maxAttempts") int maxAttempts);
 }
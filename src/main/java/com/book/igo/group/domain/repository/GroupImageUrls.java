@@ -0,0 +1,11 @@
+package com.book.igo.group.domain.repository;
+
+/**
+ * 모임 이미지 한 장의 원본/파생본 URL projection. 파생본이 아직 없으면 해당 URL 은 null 입니다.
+ */
+public record GroupImageUrls(
+        String imageUrl,
+        String mediumUrl,
+        String thumbnailUrl
+) {
+}
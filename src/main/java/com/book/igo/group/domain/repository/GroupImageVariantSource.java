@@ -0,0 +1,14 @@
+package com.book.igo.group.domain.repository;
+
+import com.book.igo.group.domain.entity.ImageVariantStatus;
+
+/**
+ * 파생본 생성 작업 입력 projection. 모임/이미지 엔티티를 적재하지 않고 필요한 컬럼만 조회합니다.
+ */
+public record GroupImageVariantSource(
+        Long imageId,
+        Long groupId,
+        String imageUrl,
+        ImageVariantStatus variantStatus
+) {
+}
@@ -0,0 +1,15 @@
+package com.book.igo.group.domain.repository;
+
+/**
+ * 모임의 저장된 참여 인원과 {@code v1_group_users} 기준 실제 참여 인원.
+ */
+public record GroupParticipantCount(
+        Long groupId,
+        Integer stored,
+        Long actual
+) {
+
+    public boolean drifted() {
+        return stored.longValue() != actual;
+    }
+}
@@ -1,8 +1,225 @@
 package com.book.igo.group.domain.repository;
 
 import com.book.igo.group.domain.entity.Group;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
+    /**
+     * 상세 조회용: 삭제되지 않은 모임 + 호스트를 한 번에 조회합니다.
+     * (컬렉션은 카테시안 곱을 피하기 위해 각 Repository 의 전용 쿼리로 따로 조회)
+     */
+    @Query("""
+            select g
+            from Group g
+            join fetch g.host
+            where g.id = :groupId
+              and g.deletedAt is null
+            """)
+    Optional<Group> findDetailById(@Param("groupId") Long groupId);
+
+    /**
+     * 피드 첫 페이지. (start_time, group_id) 오름차순, 삭제/종료된 모임 제외.
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupFeedItem(
+                g.id, g.title, g.location, g.startTime, g.endTime, g.maxParticipants, g.participantCount,
+                h.nickName)
+            from Group g
+            join g.host h
+            where g.deletedAt is null
+              and g.endTime > :now
+            order by g.startTime asc, g.id asc
+            """)
+    List<GroupFeedItem> findFeed(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * 피드 다음 페이지. 커서 (start_time, group_id) 이후부터 인덱스 범위 탐색하므로 깊이와 무관하게 비용이 일정합니다.
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupFeedItem(
+                g.id, g.title, g.location, g.startTime, g.endTime, g.maxParticipants, g.participantCount,
+                h.nickName)
+            from Group g
+            join g.host h
+            where g.deletedAt is null
+              and g.endTime > :now
+              and (g.startTime > :cursorStartTime
+                   or (g.startTime = :cursorStartTime and g.id > :cursorId))
+            order by g.startTime asc, g.id asc
+            """)
+    List<GroupFeedItem> findFeedAfter(
+            @Param("now") LocalDateTime now,
+            @Param("cursorStartTime") LocalDateTime cursorStartTime,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * id 목록으로 피드 projection 을 조회합니다. (태그 검색 결과 페이지 적재용, 순서는 호출부에서 맞춤)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupFeedItem(
+                g.id, g.title, g.location, g.startTime, g.endTime, g.maxParticipants, g.participantCount,
+                h.nickName)
+            from Group g
+            join g.host h
+            where g.id in :groupIds
+              and g.deletedAt is null
+            """)
+    List<GroupFeedItem> findFeedItemsByIdIn(@Param("groupIds") Collection<Long> groupIds);
+
+    /**
+     * 삭제되지 않은 모임 id 를 id 순으로 끊어 읽습니다. (keyset, 인덱스 적재용)
+     */
+    @Query("""
+            select g.id
+            from Group g
+            where g.deletedAt is null
+              and g.id > :afterId
+            order by g.id
+            """)
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 전문 검색 색인 재구축용: 삭제되지 않은 모임의 검색 대상 컬럼만 id 순으로 끊어 읽습니다. (keyset)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupSearchSource(
+                g.id, g.title, g.description, g.location)
+            from Group g
+            where g.deletedAt is null
+              and g.id > :afterId
+            order by g.id
+            """)
+    List<GroupSearchSource> findSearchSourcesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 색인 동기화용: 삭제되지 않은 모임 하나의 검색 대상 컬럼. (없거나 삭제됐으면 빈 값)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupSearchSource(
+                g.id, g.title, g.description, g.location)
+            from Group g
+            where g.deletedAt is null
+              and g.id = :groupId
+            """)
+    Optional<GroupSearchSource> findSearchSourceById(@Param("groupId") Long groupId);
+
+    /**
+     * 주변 검색 색인 적재용: 좌표가 있고 아직 끝나지 않은 모임을 id 순으로 끊어 읽습니다. (keyset)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupGeoSource(
+                g.id, g.title, g.location, g.startTime, g.endTime, g.maxParticipants, g.participantCount,
+                h.nickName, g.latitude, g.longitude)
+            from Group g
+            join g.host h
+            where g.deletedAt is null
+              and g.endTime > :now
+              and g.latitude is not null
+              and g.longitude is not null
+              and g.id > :afterId
+            order by g.id
+            """)
+    List<GroupGeoSource> findUpcomingGeoSourcesAfter(
+            @Param("now") LocalDateTime now,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    /**
+     * 색인 동기화용: 좌표가 있는 진행 예정 모임 하나. (조건에 맞지 않으면 빈 값)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupGeoSource(
+                g.id, g.title, g.location, g.startTime, g.endTime, g.maxParticipants, g.participantCount,
+                h.nickName, g.latitude, g.longitude)
+            from Group g
+            join g.host h
+            where g.deletedAt is null
+              and g.endTime > :now
+              and g.latitude is not null
+              and g.longitude is not null
+              and g.id = :groupId
+            """)
+    Optional<GroupGeoSource> findUpcomingGeoSourceById(
+            @Param("now") LocalDateTime now,
+            @Param("groupId") Long groupId
+    );
+
+    /**
+     * 참여 인원 +1. 행 단위 원자 갱신이라 동시 참여에도 유실이 없습니다. (호출 트랜잭션 안에서 실행)
+     */
+    @Modifying
+    @Query("""
+            update Group g
+            set g.participantCount = g.participantCount + 1
+            where g.id = :groupId
+            """)
+    int incrementParticipantCount(@Param("groupId") Long groupId);
+
+    /**
+     * 참여 인원 -1 (0 미만으로 내려가지 않음). 호출 트랜잭션 안에서 실행합니다.
+     */
+    @Modifying
+    @Query("""
+            update Group g
+            set g.participantCount = g.participantCount - 1
+            where g.id = :groupId
+              and g.participantCount > 0
+            """)
+    int decrementParticipantCount(@Param("groupId") Long groupId);
+
+    /**
+     * 현재 참여 인원. 같은 트랜잭션에서 +1/-1 갱신 직후 읽으면 행 잠금 덕분에 커밋될 값과 같습니다.
+     */
+    @Query("select g.participantCount from Group g where g.id = :groupId")
+    int findParticipantCountById(@Param("groupId") Long groupId);
+
+    /**
+     * 정합성 점검용: 저장된 참여 인원과 실제 참여 인원(left_at == null)을 id 순으로 끊어 읽습니다. (keyset)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupParticipantCount(
+                g.id,
+                g.participantCount,
+                (select count(gu) from GroupUser gu where gu.group = g and gu.leftAt is null))
+            from Group g
+            where g.deletedAt is null
+              and g.endTime > :endedAfter
+              and g.id > :afterId
+            order by g.id
+            """)
+    List<GroupParticipantCount> findParticipantCountsAfter(
+            @Param("endedAfter") LocalDateTime endedAfter,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    /**
+     * 저장된 값이 {@code expected} 일 때만 참여 인원을 고칩니다. (점검 중 들어온 참여/나가기를 덮어쓰지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Group g
+            set g.participantCount = :actual
+            where g.id = :groupId
+              and g.participantCount = :expected
+            """)
+    int correctParticipantCount(
+            @Param("groupId") Long groupId,
+            @Param("expected") int expected,
+            @Param("actual") int actual
+    );
 }
@@ -0,0 +1,18 @@
+package com.book.igo.group.domain.repository;
+
+import com.book.igo.group.domain.entity.Group;
+
+/**
+ * 전문 검색 색인 문서 원본. 모임에서 검색 대상 컬럼만 담습니다.
+ */
+public record GroupSearchSource(
+        Long id,
+        String title,
+        String description,
+        String location
+) {
+
+    public static GroupSearchSource from(Group group) {
+        return new GroupSearchSource(group.getId(), group.getTitle(), group.getDescription(), group.getLocation());
+    }
+}
@@ -0,0 +1,56 @@
+package com.book.igo.group.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 모임 정원 좌석 저장소. 정원 확인과 좌석 확보를 한 번의 원자 연산으로 처리해
+ * {@code v1_group_users} 행 잠금 없이 초과 참여를 막습니다.
+ *
+ * <p>좌석은 "예약(DB 반영 전)"과 "확정(DB 반영 후)" 두 상태를 가지며 둘 다 정원에 포함됩니다.
+ * 확정되지 않은 예약은 일정 시간이 지나면 다음 예약 시도 때 정리됩니다.</p>
+ */
+public interface GroupSeatRepository {
+
+    /**
+     * 정원 안이면 회원의 좌석을 예약합니다. 좌석 정보가 없으면 {@link #initialize} 후 다시 호출해야 합니다.
+     */
+    ReserveResult reserve(Long groupId, Long userId, int capacity);
+
+    /**
+     * 좌석 정보가 없을 때만 현재 참여자로 초기화합니다. (이미 있으면 아무 것도 하지 않음)
+     */
+    void initialize(Long groupId, Collection<Long> userIds, long expireAtMs);
+
+    /**
+     * DB 반영이 끝난 예약을 확정합니다.
+     */
+    void confirm(Long groupId, Long userId);
+
+    /**
+     * 좌석을 반납합니다. (DB 반영 실패 또는 모임 나가기)
+     */
+    void release(Long groupId, Long userId);
+
+    /**
+     * 좌석 정보를 DB 참여자 목록과 맞춥니다.
+     *
+     * <p>DB 에 없는 확정 좌석 중 {@code staleBeforeMs} 이전에 확정된 것만 제거하고 (조회 이후 확정된 좌석 보호),
+     * DB 에 있는데 좌석이 없거나 예약 상태인 회원은 확정 좌석으로 둡니다.</p>
+     *
+     * @return 바로잡은 좌석 수 (0 이면 차이 없음)
+     */
+    int reconcile(Long groupId, Collection<Long> activeUserIds, long staleBeforeMs, long expireAtMs);
+
+    /**
+     * 최근 좌석 변동이 있었던 모임 id 를 최대 {@code count} 개 꺼냅니다. (꺼낸 id 는 목록에서 제거)
+     */
+    List<Long> popChangedGroupIds(int count);
+
+    enum ReserveResult {
+        RESERVED,
+        ALREADY_JOINED,
+        FULL,
+        NOT_INITIALIZED
+    }
+}
@@ -0,0 +1,11 @@
+package com.book.igo.group.domain.repository;
+
+/**
+ * 모임-태그 연결 한 줄 projection (태그 비트맵 인덱스 적재용).
+ */
+public record GroupTagPair(
+        Long groupTagId,
+        Long groupId,
+        Long tagId
+) {
+}
@@ -1,9 +1,40 @@
 package com.book.igo.group.domain.repository;
 
-import com.book.igo.group.domain.entity.GroupImage;
 import com.book.igo.group.domain.entity.GroupTag;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface GroupTagRepository extends JpaRepository<GroupTag, Long> {
 
+    @Query("""
+            select t.name
+            from GroupTag gt
+            join gt.tag t
+            where gt.group.id = :groupId
+            order by gt.id
+            """)
+    List<String> findTagNamesByGroupId(@Param("groupId") Long groupId);
+
+    @Query("""
+            select gt.tag.id
+            from GroupTag gt
+            where gt.group.id = :groupId
+            """)
+    List<Long> findTagIdsByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 삭제되지 않은 모임의 태그 연결을 group_tag_id 순으로 끊어 읽습니다. (keyset, 인덱스 적재용)
+     */
+    @Query("""
+            select new com.book.igo.group.domain.repository.GroupTagPair(gt.id, g.id, gt.tag.id)
+            from GroupTag gt
+            join gt.group g
+            where g.deletedAt is null
+              and gt.id > :afterId
+            order by gt.id
+            """)
+    List<GroupTagPair> findActivePairsAfter(@Param("afterId") Long afterId, Limit limit);
 }
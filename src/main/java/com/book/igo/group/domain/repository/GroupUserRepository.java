@@ -1,9 +1,51 @@
 package com.book.igo.group.domain.repository;
 
-import com.book.igo.group.domain.entity.Group;
 import com.book.igo.group.domain.entity.GroupUser;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface GroupUserRepository extends JpaRepository<GroupUser, Long> {
 
+    /**
+     * 현재 참여 중인 참여 이력 (left_at == null)
+     */
+    @Query("""
+            select gu
+            from GroupUser gu
+            where gu.group.id = :groupId
+              and gu.user.id = :userId
+              and gu.leftAt is null
+            """)
+    Optional<GroupUser> findActive(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    /**
+     * 현재 참여 회원 id (좌석 초기화/정합성 점검용)
+     */
+    @Query("""
+            select gu.user.id
+            from GroupUser gu
+            where gu.group.id = :groupId
+              and gu.leftAt is null
+            """)
+    List<Long> findActiveUserIds(@Param("groupId") Long groupId);
+
+    /**
+     * 아직 참여 중일 때만 나가기 처리합니다. 같은 회원의 동시 나가기 중 하나만 1 을 돌려받습니다. (호출 트랜잭션 안에서 실행)
+     *
+     * @return 바뀐 행 수 (0 이면 이미 나간 참여 이력)
+     */
+    @Modifying
+    @Query("""
+            update GroupUser gu
+            set gu.leftAt = :now,
+                gu.updatedAt = :now
+            where gu.id = :id
+              and gu.leftAt is null
+            """)
+    int markLeft(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -10,9 +10,24 @@ import org.springframework.http.HttpStatus;
 public enum GroupErrorCode implements ErrorCode {
 
     HOST_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "모임: 호스트 사용자를 찾을 수 없습니다: %s"),
+    GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "모임: 모임을 찾을 수 없습니다: %s"),
     INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "모임: 종료 시간은 시작 시간보다 뒤여야 합니다."),
     INVALID_MAX_PARTICIPANTS(HttpStatus.BAD_REQUEST, "모임: 최대 인원은 최소 2명 이상이어야 합니다."),
+    INVALID_COORDINATES(HttpStatus.BAD_REQUEST, "모임: 위도와 경도는 함께 입력해야 합니다."),
+    INVALID_SEARCH_AREA(HttpStatus.BAD_REQUEST, "모임: 검색 범위가 올바르지 않습니다. (반경 최대 %dm)"),
+    INVALID_SEARCH_BOX(HttpStatus.BAD_REQUEST, "모임: 검색 영역이 올바르지 않습니다. (남서 ≤ 북동, 가로/세로 최대 %s도)"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "모임: 잘못된 페이지 커서입니다."),
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "모임: 검색어는 1자 이상 %d자 이하여야 합니다."),
+    GROUP_ALREADY_ENDED(HttpStatus.CONFLICT, "모임: 이미 종료된 모임입니다."),
+    GROUP_FULL(HttpStatus.CONFLICT, "모임: 모집 인원이 가득 찼습니다."),
+    ALREADY_JOINED(HttpStatus.CONFLICT, "모임: 이미 참여했거나 참여 처리 중인 모임입니다."),
+    NOT_JOINED(HttpStatus.CONFLICT, "모임: 참여하지 않은 모임입니다."),
+    HOST_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "모임: 호스트는 모임을 나갈 수 없습니다."),
     TAG_NOT_FOUND(HttpStatus.NOT_FOUND, "모임: 요청한 태그를 찾을 수 없습니다."),
+    NOT_GROUP_HOST(HttpStatus.FORBIDDEN, "모임: 호스트만 요청할 수 있습니다."),
+    INVALID_IMAGE(HttpStatus.BAD_REQUEST, "모임: 허용되지 않는 이미지입니다. (jpeg/png/webp/gif, 최대 %dMB)"),
+    TOO_MANY_IMAGES(HttpStatus.BAD_REQUEST, "모임: 이미지는 최대 %d장까지 등록할 수 있습니다."),
+    IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "모임: 업로드가 확인되지 않은 이미지입니다: %s"),
     IMAGE_UPLOAD_FAILED(HttpStatus.BAD_REQUEST, "모임: 이미지 업로드 요청에 실패했습니다.");
 
 
@@ -0,0 +1,235 @@
+package com.book.igo.group.infrastructure.repository;
+
+import com.book.igo.group.domain.repository.GroupSeatRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임 좌석을 모임별 정렬 집합 {@code group:seats:<groupId>} 에 저장합니다.
+ *
+ * <p>멤버는 회원 id, 점수는 상태를 나타냅니다.</p>
+ * <ul>
+ *   <li>양수: 예약 시각(ms). DB 반영 전 좌석</li>
+ *   <li>음수: -확정 시각(ms). DB 에 반영된 좌석</li>
+ * </ul>
+ *
+ * <p>좌석이 바뀐 모임 id 는 {@code group:seats:changed} 집합에 모아 두고 정합성 점검 대상으로 씁니다.</p>
+ */
+@Slf4j
+@Repository
+public class GroupSeatRedisRepository implements GroupSeatRepository {
+
+    static final String KEY_PREFIX = "group:seats:";
+    static final String CHANGED_KEY = "group:seats:changed";
+
+    /**
+     * 좌석 예약 스크립트. 오래된 예약 정리 → 중복 확인 → 정원 확인 → 예약.
+     *
+     * <pre>
+     * KEYS[1] group:seats:&lt;groupId&gt;, KEYS[2] group:seats:changed
+     * ARGV    회원 id, 정원, 현재 시각, 예약 유효 시간, 모임 id
+     * 반환    1=예약, 0=이미 참여(또는 처리 중), -1=정원 초과, -2=좌석 정보 없음
+     * </pre>
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -2
+            end
+            local now = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '(0', now - tonumber(ARGV[4]))
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[2]) then
+                return -1
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[5])
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * 좌석 초기화 스크립트. 키가 없을 때만 확정 좌석으로 채웁니다.
+     *
+     * <pre>
+     * KEYS[1] group:seats:&lt;groupId&gt;
+     * ARGV    현재 시각, 보관 기한, 회원 id...
+     * </pre>
+     */
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local confirmed = -tonumber(ARGV[1])
+            for i = 3, #ARGV do
+                redis.call('ZADD', KEYS[1], confirmed, ARGV[i])
+            end
+            if #ARGV >= 3 then
+                redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+            end
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * 예약 확정 스크립트. 예약이 정리된 뒤라도 DB 가 기준이므로 확정 좌석으로 둡니다.
+     *
+     * <pre>
+     * KEYS[1] group:seats:&lt;groupId&gt;
+     * ARGV    회원 id, 현재 시각
+     * 반환    1=예약을 확정, 0=예약이 없어 새로 추가
+     * </pre>
+     */
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(
+            """
+            local existed = redis.call('ZSCORE', KEYS[1], ARGV[1]) and 1 or 0
+            redis.call('ZADD', KEYS[1], -tonumber(ARGV[2]), ARGV[1])
+            return existed
+            """,
+            Long.class
+    );
+
+    /**
+     * 정합성 점검 스크립트.
+     *
+     * <pre>
+     * KEYS[1] group:seats:&lt;groupId&gt;
+     * ARGV    제거 기준 확정 시각, 현재 시각, 보관 기한, DB 참여 회원 id...
+     * 반환    바로잡은 좌석 수
+     * </pre>
+     */
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local staleBefore = tonumber(ARGV[1])
+            local confirmed = -tonumber(ARGV[2])
+            local active = {}
+            for i = 4, #ARGV do
+                active[ARGV[i]] = true
+            end
+            local fixed = 0
+            local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+            for i = 1, #entries, 2 do
+                local member, score = entries[i], tonumber(entries[i + 1])
+                if score < 0 and -score < staleBefore and not active[member] then
+                    redis.call('ZREM', KEYS[1], member)
+                    fixed = fixed + 1
+                end
+            end
+            for member in pairs(active) do
+                local score = redis.call('ZSCORE', KEYS[1], member)
+                if not score or tonumber(score) > 0 then
+                    redis.call('ZADD', KEYS[1], confirmed, member)
+                    fixed = fixed + 1
+                end
+            end
+            redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+            return fixed
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate template;
+    private final long pendingTtlMs;
+
+    public GroupSeatRedisRepository(
+            StringRedisTemplate template,
+            @Value("${group.seat.pending-ttl-ms:30000}") long pendingTtlMs
+    ) {
+        this.template = template;
+        this.pendingTtlMs = pendingTtlMs;
+    }
+
+    @Override
+    public ReserveResult reserve(Long groupId, Long userId, int capacity) {
+        Long result = template.execute(
+                RESERVE_SCRIPT,
+                List.of(key(groupId), CHANGED_KEY),
+                String.valueOf(userId),
+                String.valueOf(capacity),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(pendingTtlMs),
+                String.valueOf(groupId)
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("Seat reservation script returned null. groupId=" + groupId);
+        }
+
+        return switch (result.intValue()) {
+            case 1 -> ReserveResult.RESERVED;
+            case 0 -> ReserveResult.ALREADY_JOINED;
+            case -1 -> ReserveResult.FULL;
+            default -> ReserveResult.NOT_INITIALIZED;
+        };
+    }
+
+    @Override
+    public void initialize(Long groupId, Collection<Long> userIds, long expireAtMs) {
+        List<String> args = new ArrayList<>(userIds.size() + 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(expireAtMs));
+        userIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        template.execute(INITIALIZE_SCRIPT, List.of(key(groupId)), args.toArray());
+    }
+
+    @Override
+    public void confirm(Long groupId, Long userId) {
+        Long existed = template.execute(
+                CONFIRM_SCRIPT,
+                List.of(key(groupId)),
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis())
+        );
+
+        if (existed != null && existed == 0L) {
+            log.warn("Seat reservation expired before confirm. groupId={}, userId={}", groupId, userId);
+        }
+    }
+
+    @Override
+    public void release(Long groupId, Long userId) {
+        template.opsForZSet().remove(key(groupId), String.valueOf(userId));
+        template.opsForSet().add(CHANGED_KEY, String.valueOf(groupId));
+    }
+
+    @Override
+    public int reconcile(Long groupId, Collection<Long> activeUserIds, long staleBeforeMs, long expireAtMs) {
+        List<String> args = new ArrayList<>(activeUserIds.size() + 3);
+        args.add(String.valueOf(staleBeforeMs));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(expireAtMs));
+        activeUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long fixed = template.execute(RECONCILE_SCRIPT, List.of(key(groupId)), args.toArray());
+        return fixed != null ? fixed.intValue() : 0;
+    }
+
+    @Override
+    public List<Long> popChangedGroupIds(int count) {
+        List<String> popped = template.opsForSet().pop(CHANGED_KEY, count);
+        if (popped == null) {
+            return List.of();
+        }
+        return popped.stream().map(Long::valueOf).toList();
+    }
+
+    private static String key(Long groupId) {
+        return KEY_PREFIX + groupId;
+    }
+}
@@ -1,10 +1,21 @@
 package com.book.igo.group.presentation;
 
+import com.book.igo.common.exception.AppException;
 import com.book.igo.common.response.ApiResponse;
 import com.book.igo.common.security.JwtUserPrincipal;
+import com.book.igo.group.application.GroupImageService;
+import com.book.igo.group.application.GroupJoinService;
 import com.book.igo.group.application.GroupService;
+import com.book.igo.group.application.dto.request.ConfirmGroupImagesRequest;
 import com.book.igo.group.application.dto.request.CreateGroupRequest;
+import com.book.igo.group.application.dto.request.ImageVariant;
+import com.book.igo.group.application.dto.request.NearbySort;
+import com.book.igo.group.application.dto.request.PresignGroupImagesRequest;
 import com.book.igo.group.application.dto.response.GetGroupResponse;
+import com.book.igo.group.application.dto.response.GroupFeedResponse;
+import com.book.igo.group.application.dto.response.GroupNearbyResponse;
+import com.book.igo.group.application.dto.response.GroupSearchResponse;
+import com.book.igo.group.application.dto.response.PresignedImageResponse;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -13,8 +24,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,6 +41,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class GroupController {
 
     private final GroupService groupService;
+    private final GroupJoinService groupJoinService;
+    private final GroupImageService groupImageService;
 
 
     @PreAuthorize("hasRole('USER')")
@@ -35,10 +52,141 @@ public class GroupController {
             @RequestPart("request") @Valid CreateGroupRequest request,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        GetGroupResponse response = groupService.create(principal, request, images);
+        GetGroupResponse response = groupService.create(principal, request);
+
+        // 이미지 업로드는 모임 생성 트랜잭션이 끝난 뒤 (DB 커넥션을 잡지 않은 채) 수행
+        if (images != null && !images.isEmpty()) {
+            try {
+                response = response.withImages(groupImageService.uploadAndAttach(response.id(), images));
+            } catch (AppException e) {
+                // 모임은 이미 커밋됨. 오류로 응답하면 클라이언트 재시도가 모임을 중복 생성하므로 201 + 실패 사유
+                response = response.withImageUploadError(e.getMessage());
+            }
+        }
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
     }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<GroupFeedResponse>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        GroupFeedResponse response = groupService.getFeed(cursor, size);
+
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<GroupFeedResponse>> searchByTags(
+            @RequestParam(name = "all", required = false) List<String> allOf,
+            @RequestParam(name = "any", required = false) List<String> anyOf,
+            @RequestParam(name = "none", required = false) List<String> noneOf,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        GroupFeedResponse response = groupService.searchByTags(allOf, anyOf, noneOf, cursor, size);
+
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search/text")
+    public ResponseEntity<ApiResponse<GroupSearchResponse>> searchByText(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        GroupSearchResponse response = groupService.searchByText(query, cursor, size);
+
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<GroupNearbyResponse>> getNearby(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lng") double longitude,
+            @RequestParam(defaultValue = "3000") int radius,
+            @RequestParam(defaultValue = "DISTANCE") NearbySort sort,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        GroupNearbyResponse response = groupService.getNearby(latitude, longitude, radius, sort, size);
+
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/nearby/box")
+    public ResponseEntity<ApiResponse<GroupNearbyResponse>> getWithinBox(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @RequestParam(defaultValue = "DISTANCE") NearbySort sort,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        GroupNearbyResponse response = groupService.getWithinBox(minLat, minLng, maxLat, maxLng, sort, size);
+
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{groupId}")
+    public ResponseEntity<ApiResponse<GetGroupResponse>> getGroup(
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageVariant imageVariant
+    ) {
+        GetGroupResponse response = groupService.getGroup(groupId, imageVariant);
+
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/{groupId}/join")
+    public ResponseEntity<ApiResponse<Void>> joinGroup(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable Long groupId
+    ) {
+        groupJoinService.join(principal.id(), groupId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    @PostMapping("/{groupId}/leave")
+    public ResponseEntity<ApiResponse<Void>> leaveGroup(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable Long groupId
+    ) {
+        groupJoinService.leave(principal.id(), groupId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    /**
+     * 직접 업로드용 presigned URL 발급 (호스트 전용)
+     */
+    @PostMapping("/{groupId}/images/presign")
+    public ResponseEntity<ApiResponse<List<PresignedImageResponse>>> presignImages(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable Long groupId,
+            @RequestBody @Valid PresignGroupImagesRequest request
+    ) {
+        List<PresignedImageResponse> response = groupImageService.presign(principal.id(), groupId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 직접 업로드한 이미지 등록 (호스트 전용). 응답은 등록 후 전체 이미지 URL
+     */
+    @PostMapping("/{groupId}/images/confirm")
+    public ResponseEntity<ApiResponse<List<String>>> confirmImages(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable Long groupId,
+            @RequestBody @Valid ConfirmGroupImagesRequest request
+    ) {
+        List<String> response = groupImageService.confirm(principal.id(), groupId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
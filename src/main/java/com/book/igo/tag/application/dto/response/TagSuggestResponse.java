@@ -0,0 +1,23 @@
+package com.book.igo.tag.application.dto.response;
+
+import java.util.List;
+
+/**
+ * 태그 자동완성 결과.
+ *
+ * @param items 사용 수가 많은 순 (같으면 이름 순)
+ */
+public record TagSuggestResponse(
+        List<Item> items
+) {
+
+    /**
+     * @param usageCount 태그가 붙은 모임 수 (마지막 색인 재구성 시점 기준)
+     */
+    public record Item(
+            Long id,
+            String name,
+            long usageCount
+    ) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.book.igo.tag.application.service;
+
+import java.util.Map;
+
+/**
+ * 한글 음절 → 호환 자모 분해.
+ *
+ * <p>입력 중인 글자도 맞출 수 있도록 겹받침/겹모음은 기본 자모로 풉니다.
+ * (ex. "닭" → ㄷㅏㄹㄱ 이므로 "달걀" 의 접두사, "슾" → ㅅㅡㅍ 이므로 "스포츠" 의 접두사)</p>
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 따로 입력된 겹자모
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 전체 자모 키. (소문자, 음절은 자모로 분해)
+     */
+    static String decompose(String text) {
+        StringBuilder key = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_BASE;
+                key.append(CHO[code / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[code % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                        .append(JONG[code % JONG_COUNT]);
+            } else {
+                String compound = COMPOUND.get(c);
+                key.append(compound != null ? compound : String.valueOf(c));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 초성 키. 음절은 초성만, 나머지 문자는 그대로(소문자) 둡니다. (ex. "K팝" → "kㅍ")
+     */
+    static String choseong(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            key.append(isSyllable(c) ? CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)].charAt(0) : c);
+        }
+        return key.toString();
+    }
+
+    /**
+     * {@link #decompose} 한 키를 따라 trie 를 내려갑니다. 문자열을 만들지 않습니다.
+     *
+     * @return 도착한 노드 (없으면 -1)
+     */
+    static int walkDecomposed(TagSuggestTrie trie, String query) {
+        int node = TagSuggestTrie.ROOT;
+        for (int i = 0; i < query.length() && node >= 0; i++) {
+            char c = Character.toLowerCase(query.charAt(i));
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_BASE;
+                node = trie.walk(node, CHO[code / (JUNG_COUNT * JONG_COUNT)]);
+                node = trie.walk(node, JUNG[code % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT]);
+                node = trie.walk(node, JONG[code % JONG_COUNT]);
+            } else {
+                String compound = COMPOUND.get(c);
+                node = compound != null ? trie.walk(node, compound) : trie.step(node, c);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * {@link #choseong} 키를 따라 trie 를 내려갑니다. 음절이나 모음이 섞인 질의는 초성 질의가 아닙니다.
+     *
+     * @return 도착한 노드 (초성 질의가 아니거나 없으면 -1)
+     */
+    static int walkChoseong(TagSuggestTrie trie, String query) {
+        boolean hasConsonant = false;
+        int node = TagSuggestTrie.ROOT;
+        for (int i = 0; i < query.length() && node >= 0; i++) {
+            char c = Character.toLowerCase(query.charAt(i));
+            if (isSyllable(c) || isVowel(c)) {
+                return -1;
+            }
+            hasConsonant |= isConsonant(c);
+            node = trie.step(node, c);
+        }
+        return hasConsonant ? node : -1;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= 'ㅏ' && c <= 'ㅣ';
+    }
+}
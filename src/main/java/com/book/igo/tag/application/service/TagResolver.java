@@ -0,0 +1,136 @@
+package com.book.igo.tag.application.service;
+
+import com.book.igo.tag.domain.repository.TagIdName;
+import com.book.igo.tag.domain.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 태그 이름 → id 변환. 태그 어휘는 작고 자주 쓰이므로 노드 로컬 캐시(Caffeine, 크기 제한)에 둡니다.
+ *
+ * <ul>
+ *   <li>{@link #resolve}: 모두 캐시에 있으면 쿼리 없음. 없는 이름은 multi-row upsert 1회 + 조회 1회</li>
+ *   <li>{@link #findIds}: 검색용. 없는 이름을 만들지 않고 조회만 1회</li>
+ * </ul>
+ *
+ * <p>upsert 는 자체 트랜잭션으로 바로 커밋하고, 캐시는 커밋이 끝난 뒤에 채웁니다. 호출자는 트랜잭션을 열기 전에
+ * 호출해야 합니다. 트랜잭션 안에서 부르면 커넥션 하나를 쥔 채 upsert 용 커넥션을 하나 더 기다리게 되어
+ * 동시 요청이 몰리면 풀이 고갈됩니다. (쓰이지 않는 태그가 남을 수 있음)</p>
+ *
+ * @implNote 태그는 이름이 바뀌거나 삭제되지 않는다는 전제로 캐시를 무효화하지 않습니다.
+ */
+@Component
+public class TagResolver {
+
+    private static final String CACHE_NAME = "tag.id";
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate requiresNew;
+    private final Cache<String, Long> idByName;
+
+    public TagResolver(
+            TagRepository tagRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${tag.cache.max-size:10000}") long maxSize
+    ) {
+        this.tagRepository = tagRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.idByName = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, idByName, CACHE_NAME);
+    }
+
+    /**
+     * 태그 이름을 id 로 바꾸며, 없는 태그는 만듭니다. 트랜잭션 밖에서 호출합니다.
+     *
+     * @param names 정규화(trim, 중복 제거)된 이름
+     * @return 이름 → id (입력 순서 유지)
+     */
+    public Map<String, Long> resolve(List<String> names) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        List<String> misses = collectCached(names, resolved);
+        if (misses.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Long> loaded = requiresNew.execute(status -> {
+            tagRepository.insertIgnoringDuplicates(misses);
+            return load(misses);
+        });
+        // 커밋된 id 만 캐시
+        idByName.putAll(loaded);
+
+        for (String name : names) {
+            if (!resolved.containsKey(name)) {
+                Long id = loaded.get(name);
+                if (id == null) {
+                    throw new IllegalStateException("Tag not resolved after upsert: " + name);
+                }
+                resolved.put(name, id);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 있는 태그만 id 로 바꿉니다. (없는 이름은 결과에서 빠짐)
+     */
+    public Map<String, Long> findIds(Collection<String> names) {
+        Map<String, Long> found = new HashMap<>();
+        List<String> misses = collectCached(names, found);
+        if (!misses.isEmpty()) {
+            Map<String, Long> loaded = load(misses);
+            idByName.putAll(loaded);
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    private List<String> collectCached(Collection<String> names, Map<String, Long> into) {
+        List<String> misses = new ArrayList<>();
+        for (String name : names) {
+            Long id = idByName.getIfPresent(name);
+            if (id != null) {
+                into.put(name, id);
+            } else {
+                misses.add(name);
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * 이름으로 조회합니다. DB 콜레이션상 같은 이름(대소문자만 다른 경우 등)은 기존 태그로 연결합니다.
+     */
+    private Map<String, Long> load(List<String> names) {
+        List<TagIdName> rows = tagRepository.findIdNamesByNameIn(names);
+
+        Map<String, Long> loaded = new HashMap<>();
+        for (String name : names) {
+            rows.stream()
+                    .filter(row -> row.name().equals(name))
+                    .findFirst()
+                    .or(() -> rows.stream().filter(row -> row.name().equalsIgnoreCase(name)).findFirst())
+                    .ifPresent(row -> loaded.put(name, row.id()));
+        }
+        return loaded;
+    }
+}
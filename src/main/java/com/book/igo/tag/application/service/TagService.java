@@ -1,6 +1,6 @@
 package com.book.igo.tag.application.service;
 
-import com.book.igo.tag.domain.repository.TagRepository;
+import com.book.igo.tag.application.dto.response.TagSuggestResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -9,8 +9,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class TagService {
 
+    private final TagSuggestIndex tagSuggestIndex;
 
-    private final TagRepository tagRepository;
-
-
+    /**
+     * 입력 중인 문자열로 시작하는 태그를 사용 수 순으로 추천합니다. (DB 조회 없음)
+     */
+    public TagSuggestResponse suggest(String query, int size) {
+        return new TagSuggestResponse(tagSuggestIndex.suggest(query, size));
+    }
 }
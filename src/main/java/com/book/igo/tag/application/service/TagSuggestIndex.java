@@ -0,0 +1,147 @@
+package com.book.igo.tag.application.service;
+
+import com.book.igo.tag.application.dto.response.TagSuggestResponse;
+import com.book.igo.tag.domain.repository.TagRepository;
+import com.book.igo.tag.domain.repository.TagUsage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 자동완성 색인. 태그를 사용 수 순으로 줄 세워 두 개의 읽기 전용 trie 에 넣습니다.
+ *
+ * <ul>
+ *   <li>자모 trie: 음절을 자모로 풀어 입력 중인 글자도 일치 ("슾" → "스포츠")</li>
+ *   <li>초성 trie: 자음만 입력한 질의 ("ㅅㅍㅊ" → "스포츠")</li>
+ * </ul>
+ *
+ * <p>기동 완료 후와 주기마다 DB 에서 새 스냅샷을 만든 뒤 참조 하나만 바꿔 끼웁니다. 조회는 잠금 없이
+ * 현재 스냅샷만 읽으며, 노드마다 상위 K 개가 미리 계산돼 있어 결과 목록 외에는 할당하지 않습니다.</p>
+ *
+ * @implNote 새 태그와 사용 수 변화는 다음 재구성 때 반영됩니다.
+ */
+@Slf4j
+@Component
+public class TagSuggestIndex {
+
+    private static final Comparator<TagUsage> RANK = Comparator
+            .comparing(TagUsage::usageCount, Comparator.reverseOrder())
+            .thenComparing(TagUsage::name)
+            .thenComparing(TagUsage::tagId);
+
+    private final TagRepository tagRepository;
+    private final int topK;
+    private final int loadBatchSize;
+
+    private volatile Snapshot snapshot;
+
+    public TagSuggestIndex(
+            TagRepository tagRepository,
+            @Value("${tag.suggest.top-k:10}") int topK,
+            @Value("${tag.suggest.load-batch-size:5000}") int loadBatchSize
+    ) {
+        this.tagRepository = tagRepository;
+        this.topK = topK;
+        this.loadBatchSize = loadBatchSize;
+        this.snapshot = build(List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${tag.suggest.rebuild-interval-ms:300000}",
+            fixedDelayString = "${tag.suggest.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<TagUsage> usages = new ArrayList<>();
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<TagUsage> batch = tagRepository.findUsagesAfter(afterId, Limit.of(loadBatchSize));
+                usages.addAll(batch);
+
+                if (batch.size() < loadBatchSize) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).tagId();
+            }
+        } catch (DataAccessException e) {
+            // 이전 스냅샷으로 계속 응답
+            log.warn("Tag suggest index rebuild failed. reason={}", e.getMessage());
+            return;
+        }
+
+        snapshot = build(usages);
+        log.info("Tag suggest index rebuilt: tags={}, took={}ms", usages.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * @param query 입력 중인 문자열 (앞뒤 공백 무시, 대소문자 무시)
+     * @param size  최대 개수 (1 ~ top-k)
+     */
+    public List<TagSuggestResponse.Item> suggest(String query, int size) {
+        Snapshot current = snapshot;
+        String prefix = query == null ? "" : query.strip();
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        int fullNode = HangulJamo.walkDecomposed(current.full(), prefix);
+        int choseongNode = HangulJamo.walkChoseong(current.choseong(), prefix);
+        int fullCount = fullNode >= 0 ? current.full().topCount(fullNode) : 0;
+        int choseongCount = choseongNode >= 0 ? current.choseong().topCount(choseongNode) : 0;
+
+        // 두 상위 목록 모두 순위 오름차순이므로 병합하며 중복 제거
+        int limit = Math.clamp(size, 1, topK);
+        List<TagSuggestResponse.Item> items = new ArrayList<>(Math.min(limit, fullCount + choseongCount));
+        int i = 0;
+        int j = 0;
+        while (items.size() < limit && (i < fullCount || j < choseongCount)) {
+            int a = i < fullCount ? current.full().topEntry(fullNode, i) : Integer.MAX_VALUE;
+            int b = j < choseongCount ? current.choseong().topEntry(choseongNode, j) : Integer.MAX_VALUE;
+            int next = Math.min(a, b);
+            if (a == next) {
+                i++;
+            }
+            if (b == next) {
+                j++;
+            }
+            items.add(current.entries()[next]);
+        }
+        return items;
+    }
+
+    private Snapshot build(List<TagUsage> usages) {
+        List<TagUsage> ranked = usages.stream().sorted(RANK).toList();
+
+        TagSuggestResponse.Item[] entries = new TagSuggestResponse.Item[ranked.size()];
+        TagSuggestTrie.Builder full = new TagSuggestTrie.Builder(topK);
+        TagSuggestTrie.Builder choseong = new TagSuggestTrie.Builder(topK);
+
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            TagUsage usage = ranked.get(rank);
+            entries[rank] = new TagSuggestResponse.Item(usage.tagId(), usage.name(), usage.usageCount());
+            full.add(HangulJamo.decompose(usage.name()), rank);
+            choseong.add(HangulJamo.choseong(usage.name()), rank);
+        }
+        return new Snapshot(entries, full.build(), choseong.build());
+    }
+
+    /**
+     * @param entries 순위 순 태그 (trie 의 항목 번호 = 배열 인덱스)
+     */
+    private record Snapshot(
+            TagSuggestResponse.Item[] entries,
+            TagSuggestTrie full,
+            TagSuggestTrie choseong
+    ) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.book.igo.tag.application.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 읽기 전용 prefix trie. 노드마다 그 접두사로 시작하는 항목 중 순위 상위 K 개를 미리 담아 둡니다.
+ *
+ * <p>노드/간선은 모두 기본형 배열이라 조회 중 객체를 만들지 않습니다. (자식 탐색은 정렬된 간선의 이진 탐색)</p>
+ *
+ * <p>항목 번호는 순위 순(0 이 1위)이어야 하며, 각 노드의 상위 목록도 오름차순으로 저장됩니다.</p>
+ */
+final class TagSuggestTrie {
+
+    static final int ROOT = 0;
+
+    private final int[] edgeStart;
+    private final int[] edgeCount;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] topStart;
+    private final int[] topCount;
+    private final int[] topEntries;
+
+    private TagSuggestTrie(
+            int[] edgeStart,
+            int[] edgeCount,
+            char[] edgeChars,
+            int[] edgeTargets,
+            int[] topStart,
+            int[] topCount,
+            int[] topEntries
+    ) {
+        this.edgeStart = edgeStart;
+        this.edgeCount = edgeCount;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.topEntries = topEntries;
+    }
+
+    /**
+     * @return 자식 노드 (없거나 {@code node} 가 -1 이면 -1)
+     */
+    int step(int node, char c) {
+        if (node < 0) {
+            return -1;
+        }
+        int low = edgeStart[node];
+        int high = low + edgeCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char edge = edgeChars[mid];
+            if (edge < c) {
+                low = mid + 1;
+            } else if (edge > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    int walk(int node, String chars) {
+        for (int i = 0; i < chars.length() && node >= 0; i++) {
+            node = step(node, chars.charAt(i));
+        }
+        return node;
+    }
+
+    int topCount(int node) {
+        return topCount[node];
+    }
+
+    /**
+     * @return 노드의 {@code rank} 번째 상위 항목 번호
+     */
+    int topEntry(int node, int rank) {
+        return topEntries[topStart[node] + rank];
+    }
+
+    /**
+     * 항목을 순위 순서대로 {@link #add} 한 뒤 {@link #build} 합니다.
+     */
+    static final class Builder {
+
+        private final int k;
+        private final MutableNode root;
+        private int nodeCount = 1;
+
+        Builder(int k) {
+            this.k = k;
+            this.root = new MutableNode(k);
+        }
+
+        void add(String key, int entry) {
+            MutableNode node = root;
+            node.offer(entry);
+            for (int i = 0; i < key.length(); i++) {
+                MutableNode child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    child = new MutableNode(k);
+                    node.children.put(key.charAt(i), child);
+                    nodeCount++;
+                }
+                child.offer(entry);
+                node = child;
+            }
+        }
+
+        TagSuggestTrie build() {
+            int[] edgeStart = new int[nodeCount];
+            int[] edgeCount = new int[nodeCount];
+            char[] edgeChars = new char[nodeCount - 1];
+            int[] edgeTargets = new int[nodeCount - 1];
+            int[] topStart = new int[nodeCount];
+            int[] topCount = new int[nodeCount];
+
+            int topTotal = 0;
+            Deque<MutableNode> queue = new ArrayDeque<>();
+            root.id = ROOT;
+            queue.add(root);
+            int nextId = 1;
+            int nextEdge = 0;
+
+            // BFS 로 번호를 매기며 간선을 노드별로 연속 배치 (TreeMap 이라 문자 순 정렬)
+            while (!queue.isEmpty()) {
+                MutableNode node = queue.poll();
+                edgeStart[node.id] = nextEdge;
+                edgeCount[node.id] = node.children.size();
+                for (Map.Entry<Character, MutableNode> child : node.children.entrySet()) {
+                    child.getValue().id = nextId++;
+                    edgeChars[nextEdge] = child.getKey();
+                    edgeTargets[nextEdge] = child.getValue().id;
+                    nextEdge++;
+                    queue.add(child.getValue());
+                }
+                topCount[node.id] = node.topCount;
+                topTotal += node.topCount;
+            }
+
+            int[] topEntries = new int[topTotal];
+            int offset = 0;
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                MutableNode node = queue.poll();
+                topStart[node.id] = offset;
+                System.arraycopy(node.top, 0, topEntries, offset, node.topCount);
+                offset += node.topCount;
+                queue.addAll(node.children.values());
+            }
+
+            return new TagSuggestTrie(edgeStart, edgeCount, edgeChars, edgeTargets, topStart, topCount, topEntries);
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        private final int[] top;
+        private int topCount;
+        private int id;
+
+        private MutableNode(int k) {
+            this.top = new int[k];
+        }
+
+        /**
+         * 순위 순으로 들어오므로 앞의 K 개가 곧 상위 K 개. (같은 항목이 연달아 들어오면 한 번만)
+         */
+        private void offer(int entry) {
+            if (topCount < top.length && (topCount == 0 || top[topCount - 1] != entry)) {
+                top[topCount++] = entry;
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.book.igo.tag.domain.repository;
+
+public record TagIdName(
+        Long id,
+        String name
+) {
+}
@@ -1,10 +1,32 @@
 package com.book.igo.tag.domain.repository;
 
 import com.book.igo.tag.domain.entity.Tag;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 
-    List<Tag> findByNameIn(List<String> tagNames);
+    @Query("""
+            select new com.book.igo.tag.domain.repository.TagIdName(t.id, t.name)
+            from Tag t
+            where t.name in :names
+            """)
+    List<TagIdName> findIdNamesByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * 태그별 사용 수 (tag_id keyset). 한 번도 쓰이지 않은 태그는 0.
+     */
+    @Query("""
+            select new com.book.igo.tag.domain.repository.TagUsage(t.id, t.name, count(gt.id))
+            from Tag t
+            left join GroupTag gt on gt.tag = t
+            where t.id > :afterId
+            group by t.id, t.name
+            order by t.id
+            """)
+    List<TagUsage> findUsagesAfter(@Param("afterId") Long afterId, Limit limit);
 }
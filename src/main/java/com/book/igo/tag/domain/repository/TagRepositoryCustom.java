@@ -0,0 +1,11 @@
+package com.book.igo.tag.domain.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+
+    /**
+     * 없는 이름만 한 번의 multi-row insert 로 추가합니다. 이미 있는(동시에 추가된) 이름은 무시합니다.
+     */
+    void insertIgnoringDuplicates(Collection<String> names);
+}
@@ -0,0 +1,11 @@
+package com.book.igo.tag.domain.repository;
+
+/**
+ * 태그와 그 태그가 붙은 모임 수 projection.
+ */
+public record TagUsage(
+        Long tagId,
+        String name,
+        Long usageCount
+) {
+}
@@ -0,0 +1,43 @@
+package com.book.igo.tag.infrastructure.repository;
+
+import com.book.igo.tag.domain.repository.TagRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code uk_tags_name} 충돌을 예외 대신 no-op update 로 흡수하는 MySQL 전용 upsert.
+ */
+@RequiredArgsConstructor
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertIgnoringDuplicates(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        List<String> values = List.copyOf(names);
+        StringBuilder sql = new StringBuilder("insert into v1_tags (name, created_at, updated_at) values ");
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?)");
+        }
+        // 이미 있는 이름은 아무것도 바꾸지 않음 (id 를 자기 자신으로)
+        sql.append(" on duplicate key update tag_id = tag_id");
+
+        LocalDateTime now = LocalDateTime.now();
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (String name : values) {
+            query.setParameter(position++, name);
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+        query.executeUpdate();
+    }
+}
@@ -1,8 +1,13 @@
 package com.book.igo.tag.presentation;
 
+import com.book.igo.common.response.ApiResponse;
+import com.book.igo.tag.application.dto.response.TagSuggestResponse;
 import com.book.igo.tag.application.service.TagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -12,5 +17,14 @@ public class TagController {
 
     private final TagService tagService;
 
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<TagSuggestResponse>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        TagSuggestResponse response = tagService.suggest(query, size);
 
+        return ResponseEntity
+                .ok(ApiResponse.success(response));
+    }
 }
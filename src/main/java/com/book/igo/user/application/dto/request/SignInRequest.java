@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 public record SignInRequest(
 
@@ -17,7 +18,11 @@ public record SignInRequest(
                 message = "비밀번호: 최소 8자, 영문자/숫자/특수문자를 각각 1개 이상 포함해야 합니다."
         )
         @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
-        String password
+        String password,
+
+        // 선택: 세션 목록에 표시할 기기 이름 (없으면 User-Agent 사용)
+        @Size(max = 100, message = "기기: 기기 이름은 100자 이하여야 합니다.")
+        String deviceName
 ) {
 
 }
@@ -0,0 +1,31 @@
+package com.book.igo.user.application.dto.response;
+
+import com.book.igo.user.domain.repository.TokenRepository.RefreshSession;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record SessionResponse(
+        String sessionId,
+        String deviceName,
+        LocalDateTime createdAt,
+        LocalDateTime lastUsedAt,
+        LocalDateTime expiresAt,
+        boolean current
+) {
+
+    public static SessionResponse of(RefreshSession session, boolean current) {
+        return new SessionResponse(
+                session.sessionId(),
+                session.deviceName(),
+                toLocalDateTime(session.createdAtMs()),
+                toLocalDateTime(session.lastUsedAtMs()),
+                toLocalDateTime(session.refreshExpiresAtMs()),
+                current
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+}
@@ -1,20 +1,30 @@
 package com.book.igo.user.application.service;
 
+import com.book.igo.common.concurrent.SingleFlight;
+import com.book.igo.common.exception.AppException;
 import com.book.igo.common.jwt.JwtErrorCode;
 import com.book.igo.common.jwt.JwtTokenProvider;
+import com.book.igo.common.jwt.TokenClaims;
 import com.book.igo.common.jwt.TokenException;
+import com.book.igo.common.security.PasswordHashingService;
 import com.book.igo.user.application.dto.request.SignInRequest;
 import com.book.igo.user.application.dto.request.SignUpRequest;
+import com.book.igo.user.application.dto.response.SessionResponse;
 import com.book.igo.user.application.dto.response.SignInResponse;
 import com.book.igo.user.application.dto.response.SignUpResponse;
 import com.book.igo.user.domain.entity.User;
 import com.book.igo.user.domain.repository.TokenRepository;
+import com.book.igo.user.domain.repository.TokenRepository.RefreshSession;
+import com.book.igo.user.domain.repository.TokenRepository.RotationResult;
 import com.book.igo.user.domain.repository.UserRepository;
 import com.book.igo.user.infrastructure.exception.UserErrorCode;
 import com.book.igo.user.infrastructure.exception.UserException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,10 +35,27 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
 
-    @Transactional
+    // 같은 RT 로 동시에 들어온 재발급 요청을 하나로 합침 (키: RT jti)
+    private final SingleFlight<String, SignInResponse> reissueSingleFlight = new SingleFlight<>();
+
+    // JWT 에는 공백이 없으므로 AT/RT 구분자로 사용
+    private static final char REISSUE_RESULT_DELIMITER = ' ';
+
+    private static final int MAX_DEVICE_NAME_LENGTH = 100;
+
+    @Value("${auth.reissue.grace-ms:10000}")
+    private long reissueGraceMs;
+
+    @Value("${auth.session.max-per-user:5}")
+    private int maxSessionsPerUser;
+
+    /**
+     * 회원가입. BCrypt 해시 동안 DB 커넥션을 잡지 않도록 메서드 단위 트랜잭션은 열지 않습니다.
+     * (이메일 중복 경합은 uk_email 제약으로 최종 보장)
+     */
     public SignUpResponse signUp(SignUpRequest request) {
 
         if (userRepository.existsByEmail(request.email())) {
@@ -37,7 +64,7 @@ public class AuthService {
 
         User user = User.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHashingService.encode(request.password()))
                 .nickName(request.nickname())
                 .build();
 
@@ -47,91 +74,213 @@ public class AuthService {
     }
 
 
-    @Transactional
-    public SignInResponse signIn(SignInRequest request) {
+    /**
+     * 로그인. 회원 조회 이후 BCrypt 검증은 전용 워커 풀에서 DB 커넥션 없이 수행합니다.
+     * 로그인할 때마다 새 세션(기기)이 추가되며, 기존 기기의 세션은 유지됩니다.
+     *
+     * @param userAgent 요청에 기기 이름이 없을 때 대신 사용할 User-Agent (없으면 null)
+     */
+    public SignInResponse signIn(SignInRequest request, String userAgent) {
 
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new UserException(UserErrorCode.EMAIL_NOT_FOUND));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.password(), user.getPassword())) {
             throw new UserException(UserErrorCode.PASSWORD_INCORRECT);
         }
 
-        String accessToken = jwtTokenProvider.generateAccessToken(user);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
-
-        long refreshTtlMs = jwtTokenProvider.getTtlMsByRefreshToken(refreshToken);
-
-        tokenRepository.saveRefreshToken(
-                user.getId(),
-                refreshToken,
-                refreshTtlMs
+        upgradePasswordHashIfNeeded(user, request.password());
+
+        long tokenEpoch = tokenRepository.getTokenEpoch(user.getId());
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = jwtTokenProvider.generateAccessToken(user, tokenEpoch, sessionId);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user, tokenEpoch, sessionId);
+
+        TokenClaims accessClaims = jwtTokenProvider.verifyAccessToken(accessToken);
+        TokenClaims refreshClaims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+
+        long now = System.currentTimeMillis();
+        RefreshSession session = new RefreshSession(
+                sessionId,
+                refreshClaims.jti(),
+                refreshClaims.expiresAtMs(),
+                accessClaims.jti(),
+                accessClaims.expiresAtMs(),
+                now,
+                now,
+                resolveDeviceName(request.deviceName(), userAgent)
         );
 
+        // 세션 수 제한을 넘으면 가장 오래 쓰지 않은 세션이 제거됨 → 그 세션의 AT 도 폐기
+        List<RefreshSession> evicted = tokenRepository.saveRefreshSession(user.getId(), session, maxSessionsPerUser);
+        for (RefreshSession old : evicted) {
+            log.info("Session evicted by limit. userId={}, sessionId={}", user.getId(), old.sessionId());
+            revokeSessionTokens(old);
+        }
+
         return SignInResponse.of(user, accessToken, refreshToken);
     }
 
-    @Transactional
+    private static String resolveDeviceName(String deviceName, String userAgent) {
+        String name = (deviceName != null && !deviceName.isBlank()) ? deviceName.strip() : userAgent;
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.length() > MAX_DEVICE_NAME_LENGTH ? name.substring(0, MAX_DEVICE_NAME_LENGTH) : name;
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 평문을 알고 있는 지금 재해시합니다. 실패해도 로그인은 계속 진행합니다.
+     */
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+
+        try {
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(rawPassword));
+        } catch (AppException e) {
+            log.debug("Password hash upgrade skipped. userId={}, reason={}", user.getId(), e.getErrorCode());
+        }
+    }
+
+    /**
+     * RT Rotation. Redis 확인/폐기/저장은 {@link TokenRepository#rotateRefreshToken} 한 번(Lua 스크립트)으로
+     * 원자적으로 처리하며, DB 트랜잭션은 열지 않습니다(회원 조회는 단건 조회 트랜잭션만 사용).
+     *
+     * <p>모바일 클라이언트는 같은 RT 로 재발급을 동시에 여러 번 호출하는 경우가 많아, 중복 요청은 같은 결과로 합칩니다.</p>
+     * <ul>
+     *   <li>같은 노드: RT jti 기준 single-flight 로 한 요청만 실제로 서명/Rotation 수행</li>
+     *   <li>다른 노드/뒤늦은 요청: Rotation 스크립트가 남긴 재발급 결과({@code auth.reissue.grace-ms} 동안 보관)를 반환</li>
+     * </ul>
+     */
     public SignInResponse reissue(String accessTokenHeader, String refreshToken) {
 
         // 1. RT 파싱 및 검증 (서명+만료)
-        Long userId = jwtTokenProvider.getUserIdByRefreshToken(refreshToken);
+        TokenClaims refreshClaims = jwtTokenProvider.verifyRefreshToken(refreshToken);
 
-        // 1-1. 이미 블랙리스트에 올라간 RT인지 체크 (재사용 시도 방지)
-        if (tokenRepository.isRefreshTokenBlacklisted(refreshToken)) {
-            // 재사용 공격으로 판단해도 되고, 그냥 INVALID_REFRESH_TOKEN으로 처리해도 됨
-            throw new TokenException(JwtErrorCode.INVALID_REFRESH_TOKEN);
-        }
+        return reissueSingleFlight.execute(
+                refreshClaims.jti(),
+                () -> rotate(accessTokenHeader, refreshClaims)
+        );
+    }
 
-        // 2. Redis에 저장된 RT와 일치 여부 체크
-        String storedRefresh = tokenRepository.findRefreshToken(userId);
-        if (storedRefresh == null) {
+    private SignInResponse rotate(String accessTokenHeader, TokenClaims refreshClaims) {
+        Long userId = refreshClaims.userId();
+        String sessionId = refreshClaims.sessionId();
+
+        // 세션 도입 이전에 발급된 RT 는 다시 로그인해야 함
+        if (sessionId == null) {
             throw new TokenException(JwtErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
-        if (!storedRefresh.equals(refreshToken)) {
+
+        // 2. 다른 노드에서 방금 같은 RT 로 재발급했다면 그 결과를 그대로 반환 (서명/쓰기 생략)
+        SignInResponse coalesced = findReissueResult(refreshClaims.jti());
+        if (coalesced != null) {
+            return coalesced;
+        }
+
+        // 3. AT가 헤더에 있으면 함께 폐기할 jti 확보
+        TokenClaims accessClaims = null;
+        if (accessTokenHeader != null && !accessTokenHeader.isBlank()) {
+            accessClaims = jwtTokenProvider.verifyAccessToken(accessTokenHeader);
+        }
+
+        // 4. 전체 로그아웃 이전 세대의 RT 는 거절
+        long tokenEpoch = tokenRepository.getTokenEpoch(userId);
+        if (refreshClaims.tokenEpoch() < tokenEpoch) {
             throw new TokenException(JwtErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 3. 유저 조회
+        // 5. 유저 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
 
-        // 4. 사용한 RT는 남은 TTL 만큼 블랙리스트 등록 (JWT Rotation 핵심)
-        long refreshTtl = jwtTokenProvider.getTtlMsByRefreshToken(refreshToken);
-        if (refreshTtl > 0) {
-            tokenRepository.blacklistRefreshToken(refreshToken, refreshTtl);
-        }
+        // 6. 새 AT/RT 발급
+        String newAccessToken = jwtTokenProvider.generateAccessToken(user, tokenEpoch, sessionId);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user, tokenEpoch, sessionId);
+        TokenClaims newAccessClaims = jwtTokenProvider.verifyAccessToken(newAccessToken);
+        TokenClaims newRefreshClaims = jwtTokenProvider.verifyRefreshToken(newRefreshToken);
+
+        // 최초 로그인 시각/기기 이름은 저장소가 기존 세션 값을 유지
+        RefreshSession newSession = new RefreshSession(
+                sessionId,
+                newRefreshClaims.jti(),
+                newRefreshClaims.expiresAtMs(),
+                newAccessClaims.jti(),
+                newAccessClaims.expiresAtMs(),
+                0L,
+                System.currentTimeMillis(),
+                null
+        );
 
-        // 5. AT가 헤더에 있으면, 남은 TTL 만큼 블랙리스트에 등록
-        if (accessTokenHeader != null && !accessTokenHeader.isBlank()) {
+        // 7. 재사용 확인 + 세션의 RT 비교 + 기존 RT/AT 폐기 + 세션 갱신 + 재발급 결과 보관을 한 번에
+        //    (동시 요청 중 한 건만 성공, 다른 세션은 영향 없음)
+        RotationResult result = tokenRepository.rotateRefreshToken(
+                userId,
+                refreshClaims.jti(),
+                refreshClaims.expiresAtMs(),
+                newSession,
+                accessClaims != null ? accessClaims.jti() : null,
+                accessClaims != null ? accessClaims.expiresAtMs() : 0L,
+                newAccessToken + REISSUE_RESULT_DELIMITER + newRefreshToken,
+                reissueGraceMs
+        );
 
-            long accessTtl = jwtTokenProvider.getTtlMsByAccessToken(accessTokenHeader);
-            if (accessTtl > 0) {
-                tokenRepository.blacklistAccessToken(accessTokenHeader, accessTtl);
+        switch (result) {
+            case ROTATED -> {
             }
+            // 이미 블랙리스트에 올라간 RT: 유예 시간 내 중복 요청이면 같은 결과, 아니면 재사용 시도
+            case REUSED -> {
+                SignInResponse raced = findReissueResult(refreshClaims.jti());
+                if (raced != null) {
+                    return raced;
+                }
+                throw new TokenException(JwtErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            // 세션에 다른 RT가 저장된 경우
+            case MISMATCH -> throw new TokenException(JwtErrorCode.INVALID_REFRESH_TOKEN);
+            case NOT_FOUND -> throw new TokenException(JwtErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        // 6. 새 AT/RT 발급 (Rotation)
-        String newAccessToken = jwtTokenProvider.generateAccessToken(user);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user);
-        long newRefreshTtl = jwtTokenProvider.getTtlMsByRefreshToken(newRefreshToken);
-
-        // 7. 새 RT를 Redis에 저장 (사용 가능한 RT는 항상 '한 개'만 유지)
-        tokenRepository.saveRefreshToken(userId, newRefreshToken, newRefreshTtl);
-
         // 8. 새 토큰들 응답
         return SignInResponse.of(user, newAccessToken, newRefreshToken);
     }
 
+    /**
+     * 보관된 재발급 결과를 응답으로 복원합니다. 회원 정보는 새 AT 클레임에서 꺼내므로 DB 조회가 없습니다.
+     */
+    private SignInResponse findReissueResult(String refreshJti) {
+        String stored = tokenRepository.findReissueResult(refreshJti);
+        if (stored == null) {
+            return null;
+        }
+
+        int idx = stored.indexOf(REISSUE_RESULT_DELIMITER);
+        if (idx <= 0) {
+            log.warn("Ignoring malformed reissue result. refreshJti={}", refreshJti);
+            return null;
+        }
+
+        String accessToken = stored.substring(0, idx);
+        String refreshToken = stored.substring(idx + 1);
+        TokenClaims accessClaims = jwtTokenProvider.verifyAccessToken(accessToken);
+
+        return new SignInResponse(
+                accessClaims.userId(),
+                accessClaims.email(),
+                accessClaims.nickName(),
+                accessToken,
+                refreshToken
+        );
+    }
+
     @Transactional
     public void logout(String accessTokenHeader, String refreshToken) {
-        // 1. 액세스 토큰은 남은 TTL 만큼 블랙리스트 (선택)
+        // 1. 액세스 토큰은 만료 시각까지 블랙리스트 (선택, "Bearer " 유무와 무관하게 jti 기준)
         if (accessTokenHeader != null && !accessTokenHeader.isBlank()) {
-            // "Bearer " 제거가 필요하면 여기서 한 번 정리해 주세요
-            long accessTtl = jwtTokenProvider.getTtlMsByAccessToken(accessTokenHeader);
-            if (accessTtl > 0) {
-                tokenRepository.blacklistAccessToken(accessTokenHeader, accessTtl);
-            }
+            TokenClaims accessClaims = jwtTokenProvider.verifyAccessToken(accessTokenHeader);
+            tokenRepository.blacklistAccessToken(accessClaims.jti(), accessClaims.expiresAtMs());
         }
 
         // 2. 리프레시 토큰 처리 (필수)
@@ -139,18 +288,62 @@ public class AuthService {
             return;
         }
 
-        Long userId = jwtTokenProvider.getUserIdByRefreshToken(refreshToken);
+        TokenClaims refreshClaims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        Long userId = refreshClaims.userId();
 
-        String stored = tokenRepository.findRefreshToken(userId);
-        if (stored != null && !stored.equals(refreshToken)) {
-            log.warn("Logout: stored refresh token and request token mismatch. userId={}, stored={}, request={}",
-                    userId, stored.substring(0, 20), refreshToken.substring(0, 20));
+        // 이 기기의 세션만 제거 (다른 기기는 유지)
+        if (refreshClaims.sessionId() != null) {
+            RefreshSession removed = tokenRepository.deleteRefreshSession(userId, refreshClaims.sessionId());
+            if (removed != null && !removed.refreshJti().equals(refreshClaims.jti())) {
+                log.warn("Logout: stored refresh token and request token mismatch. userId={}, stored={}, request={}",
+                        userId, removed.refreshJti(), refreshClaims.jti());
+            }
         }
-        tokenRepository.deleteRefreshToken(userId);
+        tokenRepository.blacklistRefreshToken(refreshClaims.jti(), refreshClaims.expiresAtMs());
+    }
+
+    /**
+     * 모든 기기에서 로그아웃. 토큰을 하나씩 폐기하지 않고 회원의 토큰 세대를 1 올려,
+     * 이전 세대로 발급된 AT/RT 를 한 번에 무효화합니다. (비밀번호 변경 시에도 이 메서드를 사용)
+     */
+    public void logoutAll(Long userId) {
+        long tokenEpoch = tokenRepository.increaseTokenEpoch(userId);
+        tokenRepository.deleteAllRefreshSessions(userId);
+        log.info("All tokens revoked. userId={}, tokenEpoch={}", userId, tokenEpoch);
+    }
 
-        long refreshTtl = jwtTokenProvider.getTtlMsByRefreshToken(refreshToken);
-        if (refreshTtl > 0) {
-            tokenRepository.blacklistRefreshToken(refreshToken, refreshTtl);
+    /**
+     * 로그인 세션(기기) 목록. 최근 사용한 순으로 정렬합니다.
+     *
+     * @param currentSessionId 요청한 AT 의 세션 ID (응답에서 현재 기기 표시용)
+     */
+    public List<SessionResponse> getSessions(Long userId, String currentSessionId) {
+        return tokenRepository.findRefreshSessions(userId).stream()
+                .sorted(Comparator.comparingLong(RefreshSession::lastUsedAtMs).reversed())
+                .map(session -> SessionResponse.of(session, session.sessionId().equals(currentSessionId)))
+                .toList();
+    }
+
+    /**
+     * 특정 기기 로그아웃. 세션을 제거하고 그 세션의 마지막 AT/RT 를 블랙리스트에 올립니다.
+     */
+    public void revokeSession(Long userId, String sessionId) {
+        RefreshSession removed = tokenRepository.deleteRefreshSession(userId, sessionId);
+        if (removed == null) {
+            throw new UserException(UserErrorCode.SESSION_NOT_FOUND);
+        }
+
+        revokeSessionTokens(removed);
+    }
+
+    private void revokeSessionTokens(RefreshSession session) {
+        long now = System.currentTimeMillis();
+
+        if (session.accessJti() != null && session.accessExpiresAtMs() > now) {
+            tokenRepository.blacklistAccessToken(session.accessJti(), session.accessExpiresAtMs());
+        }
+        if (session.refreshExpiresAtMs() > now) {
+            tokenRepository.blacklistRefreshToken(session.refreshJti(), session.refreshExpiresAtMs());
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.book.igo.user.domain.entity;
 
 import com.book.igo.common.domain.BaseTimeEntity;
+import com.book.igo.common.domain.IdGeneration;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -28,7 +30,12 @@ import lombok.NoArgsConstructor;
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_seq")
+    @SequenceGenerator(
+            name = "user_id_seq",
+            sequenceName = "v1_users_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     @Column(name = "user_id", nullable = false, updatable = false, length = 255)
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.book.igo.user.domain.entity;
 
+import com.book.igo.common.domain.IdGeneration;
 import com.book.igo.tag.domain.entity.Tag;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -30,7 +32,12 @@ import lombok.NoArgsConstructor;
 public class UserTag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_tag_id_seq")
+    @SequenceGenerator(
+            name = "user_tag_id_seq",
+            sequenceName = "v1_user_tags_seq",
+            allocationSize = IdGeneration.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,19 +1,125 @@
 package com.book.igo.user.domain.repository;
 
+import java.util.List;
+
 public interface TokenRepository {
 
-    void saveRefreshToken(Long userId, String refreshToken, long ttlMillis);
+    /**
+     * 회원의 로그인 세션(기기)을 저장합니다. 같은 세션 ID 가 있으면 덮어씁니다.
+     *
+     * <p>저장하면서 만료된 세션을 정리하고, 세션 수가 {@code maxSessions} 를 넘으면
+     * 가장 오래 사용하지 않은 세션부터 제거합니다.</p>
+     *
+     * @return 개수 제한으로 제거된 세션 목록
+     */
+    List<RefreshSession> saveRefreshSession(Long userId, RefreshSession session, int maxSessions);
+
+    /**
+     * @return 만료되지 않은 로그인 세션 목록 (순서 보장 없음)
+     */
+    List<RefreshSession> findRefreshSessions(Long userId);
+
+    /**
+     * 로그인 세션 하나를 제거합니다.
+     *
+     * @return 제거된 세션, 없으면 null
+     */
+    RefreshSession deleteRefreshSession(Long userId, String sessionId);
+
+    void deleteAllRefreshSessions(Long userId);
+
+    /**
+     * 액세스 토큰을 jti 기준으로 폐기합니다. 기록은 토큰 만료 시각까지만 유지됩니다.
+     */
+    void blacklistAccessToken(String jti, long expiresAtMs);
+
+    /**
+     * 리프레시 토큰을 jti 기준으로 폐기합니다. 기록은 토큰 만료 시각까지만 유지됩니다.
+     */
+    void blacklistRefreshToken(String jti, long expiresAtMs);
+
+    boolean isAccessTokenBlacklisted(String jti, long expiresAtMs);
+
+    boolean isRefreshTokenBlacklisted(String jti, long expiresAtMs);
 
-    String findRefreshToken(Long userId);
+    /**
+     * 로그인 세션 단위로 리프레시 토큰 Rotation 을 원자적으로 수행합니다.
+     *
+     * <p>기존 RT 재사용 여부 확인 → 세션에 저장된 jti 비교 → 기존 RT(및 AT) 폐기 → 세션 갱신을
+     * 한 번의 왕복으로 처리하므로, 같은 RT 로 동시에 요청해도 하나만 {@link RotationResult#ROTATED} 를 받습니다.
+     * 다른 세션에는 영향을 주지 않습니다.</p>
+     *
+     * <p>성공 시 {@code reissueResult} 를 기존 RT jti 기준으로 잠시 보관해, 같은 RT 로 뒤늦게 들어온
+     * 중복 요청이 {@link #findReissueResult(String)} 로 같은 결과를 받을 수 있게 합니다.</p>
+     *
+     * @param newSession         갱신될 세션 (세션 ID 는 기존과 동일, 최초 로그인 시각/기기 이름은 저장된 값 유지)
+     * @param accessJti          함께 폐기할 액세스 토큰 jti (없으면 null)
+     * @param reissueResult      중복 요청에 돌려줄 재발급 결과
+     * @param reissueResultTtlMs 재발급 결과 보관 시간
+     */
+    RotationResult rotateRefreshToken(
+            Long userId,
+            String oldRefreshJti,
+            long oldRefreshExpiresAtMs,
+            RefreshSession newSession,
+            String accessJti,
+            long accessExpiresAtMs,
+            String reissueResult,
+            long reissueResultTtlMs
+    );
 
-    void deleteRefreshToken(Long userId);
+    /**
+     * @return 기존 RT jti 로 최근에 성공한 재발급 결과, 보관 시간이 지났으면 null
+     */
+    String findReissueResult(String oldRefreshJti);
 
-    void blacklistAccessToken(String accessToken, long ttlMillis);
+    /**
+     * 회원의 현재 토큰 세대를 Redis 에서 읽습니다. 토큰 발급/재발급 시 {@code ver} 클레임 값으로 사용합니다.
+     *
+     * @return 현재 세대, 한 번도 올린 적 없으면 0
+     */
+    long getTokenEpoch(Long userId);
 
-    void blacklistRefreshToken(String refreshToken, long ttlMillis);
+    /**
+     * 회원의 토큰 세대를 1 올려, 그 이전 세대로 발급된 모든 AT/RT 를 한 번에 무효화합니다.
+     *
+     * @return 올라간 세대
+     */
+    long increaseTokenEpoch(Long userId);
 
-    boolean isAccessTokenBlacklisted(String accessToken);
+    /**
+     * 토큰의 세대가 회원의 현재 세대보다 낮은지 확인합니다. 요청마다 호출되므로 노드 로컬 캐시에서 판정합니다.
+     */
+    boolean isStaleTokenEpoch(Long userId, long tokenEpoch);
 
-    boolean isRefreshTokenBlacklisted(String refreshToken);
+    enum RotationResult {
+        ROTATED,
+        REUSED,
+        NOT_FOUND,
+        MISMATCH
+    }
 
+    /**
+     * 로그인 세션(기기) 하나의 상태.
+     *
+     * @param sessionId          세션 ID (토큰의 {@code sid} 클레임)
+     * @param refreshJti         현재 유효한 RT jti
+     * @param refreshExpiresAtMs 현재 RT 만료 시각 (세션 만료 시각)
+     * @param accessJti          마지막으로 발급한 AT jti (세션 폐기 시 함께 블랙리스트)
+     * @param accessExpiresAtMs  마지막으로 발급한 AT 만료 시각
+     * @param createdAtMs        최초 로그인 시각
+     * @param lastUsedAtMs       마지막 로그인/재발급 시각 (LRU 제거 기준)
+     * @param deviceName         기기 이름 (없으면 null)
+     */
+    record RefreshSession(
+            String sessionId,
+            String refreshJti,
+            long refreshExpiresAtMs,
+            String accessJti,
+            long accessExpiresAtMs,
+            long createdAtMs,
+            long lastUsedAtMs,
+            String deviceName
+    ) {
+    }
 }
@@ -0,0 +1,231 @@
+package com.book.igo.user.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 토큰 블랙리스트의 노드 로컬 near-cache.
+ *
+ * <p>블랙리스트 토큰은 극히 드물기 때문에, 폐기된 jti 목록을 각 노드 메모리에 들고 있으면
+ * 일반 요청은 Redis 왕복 없이 "블랙리스트 아님"을 판정할 수 있습니다.</p>
+ *
+ * <ul>
+ *   <li>신규 폐기: Redis pub/sub 으로 모든 노드에 즉시 전파</li>
+ *   <li>유실 대비: 아직 살아 있을 수 있는 분 단위 폐기 버킷({@link RevocationBuckets})을 주기적으로 다시 읽어 동기화</li>
+ *   <li>동기화가 {@code max-staleness-ms} 이상 실패하면 Redis 직접 조회로 전환하고,
+ *   Redis 도 실패하면 {@code fail-open} 설정에 따라 통과/차단</li>
+ *   <li>{@code max-size} 를 넘어 엔트리가 밀려나면, 밀려난 기록이 만료될 때까지 최신이 아닌 것으로 보고 Redis 직접 조회</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AccessTokenBlacklistNearCache implements MessageListener {
+
+    static final String CHANNEL = "auth:blacklist:access:events";
+
+    private static final char SEPARATOR = ':';
+
+    private final StringRedisTemplate template;
+    private final Cache<String, Long> revoked;
+    private final long maxStalenessMs;
+    private final boolean failOpen;
+    private final long accessTokenValidityMs;
+
+    private volatile long lastSyncedAtMs = 0L;
+    // 크기 초과로 밀려난 폐기 기록 중 가장 늦은 유지 시각. 그때까지는 로컬 결과로 "블랙리스트 아님"을 단정하지 않음
+    private volatile long overflowUntilMs = 0L;
+
+    public AccessTokenBlacklistNearCache(
+            StringRedisTemplate template,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${auth.blacklist.near-cache.max-size:100000}") long maxSize,
+            @Value("${auth.blacklist.near-cache.max-staleness-ms:90000}") long maxStalenessMs,
+            @Value("${auth.blacklist.near-cache.fail-open:false}") boolean failOpen,
+            @Value("${jwt.access-token-validity-ms:900000}") long accessTokenValidityMs
+    ) {
+        this.template = template;
+        this.maxStalenessMs = maxStalenessMs;
+        this.failOpen = failOpen;
+        this.accessTokenValidityMs = accessTokenValidityMs;
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtRevocationEnd())
+                .evictionListener(this::onEvicted)
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Redis 에 기록된 폐기 사실을 모든 노드(자신 포함)에 전파합니다.
+     *
+     * @param jti            폐기된 액세스 토큰 jti
+     * @param retainUntilMs  폐기 기록을 유지해야 하는 시각
+     */
+    public void publish(String jti, long retainUntilMs) {
+        remember(jti, retainUntilMs);
+        template.convertAndSend(CHANNEL, message(jti, retainUntilMs));
+    }
+
+    /**
+     * 다른 경로(예: Lua 스크립트의 PUBLISH)로 이미 전파된 폐기 사실을 이 노드에 즉시 반영합니다.
+     */
+    public void remember(String jti, long retainUntilMs) {
+        add(jti, retainUntilMs);
+    }
+
+    static String message(String jti, long retainUntilMs) {
+        return retainUntilMs + String.valueOf(SEPARATOR) + jti;
+    }
+
+    public boolean contains(String jti) {
+        return revoked.getIfPresent(jti) != null;
+    }
+
+    /**
+     * 마지막 동기화가 허용 지연 이내이고 크기 초과로 밀려난 폐기 기록도 없는지 여부.
+     * false 면 로컬 결과만으로 "블랙리스트 아님"을 단정할 수 없습니다.
+     */
+    public boolean isFresh() {
+        long now = System.currentTimeMillis();
+        return now - lastSyncedAtMs <= maxStalenessMs && now >= overflowUntilMs;
+    }
+
+    /**
+     * near-cache 가 오래되었고 Redis 조회도 실패했을 때의 판정값.
+     */
+    public boolean blacklistedOnRedisFailure() {
+        return !failOpen;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(SEPARATOR);
+        if (idx <= 0) {
+            log.warn("Ignoring malformed blacklist event: {}", body);
+            return;
+        }
+
+        try {
+            add(body.substring(idx + 1), Long.parseLong(body.substring(0, idx)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed blacklist event: {}", body);
+        }
+    }
+
+    /**
+     * pub/sub 메시지 유실에 대비해 아직 유효할 수 있는 폐기 버킷을 한 번의 파이프라인으로 다시 읽습니다.
+     *
+     * <p>대상 범위: (지금 - 허용 오차) ~ (지금 + 액세스 토큰 수명) 에 만료되는 버킷. 보통 20개 이내입니다.</p>
+     */
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${auth.blacklist.near-cache.resync-interval-ms:30000}"
+    )
+    public void resync() {
+        long now = System.currentTimeMillis();
+        long fromBucket = RevocationBuckets.bucketOf(now - RevocationBuckets.RETENTION_GRACE_MS);
+        long toBucket = RevocationBuckets.bucketOf(now + accessTokenValidityMs);
+
+        try {
+            List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+                for (long bucket = fromBucket; bucket <= toBucket; bucket++) {
+                    connection.hashCommands()
+                            .hKeys(RevocationBuckets.keyBytes(RevocationBuckets.ACCESS_PREFIX, bucket));
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+
+            for (int i = 0; i < results.size(); i++) {
+                if (!(results.get(i) instanceof Collection<?> fields)) {
+                    continue;
+                }
+
+                long retainUntil = RevocationBuckets.retainUntil(fromBucket + i);
+                for (Object field : fields) {
+                    if (field instanceof byte[] bytes) {
+                        add(RevocationBuckets.fromField(bytes), retainUntil);
+                    }
+                }
+            }
+
+            lastSyncedAtMs = now;
+        } catch (DataAccessException e) {
+            log.warn("Access token blacklist resync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 밀려난 엔트리 처리를 즉시 실행합니다. (점검/테스트용)
+     */
+    void cleanUp() {
+        revoked.cleanUp();
+    }
+
+    /**
+     * 엔트리가 맵에서 빠지기 전에 호출되므로, 조회가 엔트리를 못 찾는 시점에는 이미 최신이 아닌 상태입니다.
+     */
+    private void onEvicted(String jti, Long retainUntilMs, RemovalCause cause) {
+        if (cause != RemovalCause.SIZE || retainUntilMs == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (retainUntilMs > overflowUntilMs) {
+                if (overflowUntilMs <= System.currentTimeMillis()) {
+                    log.warn("Access token blacklist near-cache overflowed, falling back to Redis lookups");
+                }
+                overflowUntilMs = retainUntilMs;
+            }
+        }
+    }
+
+    private void add(String jti, long retainUntilMs) {
+        if (retainUntilMs > System.currentTimeMillis()) {
+            revoked.put(jti, retainUntilMs);
+        }
+    }
+
+    /**
+     * 로컬 엔트리를 원래 토큰의 만료 시각에 제거합니다.
+     */
+    private static final class ExpireAtRevocationEnd implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMs, long currentTime) {
+            long ttlMs = Math.max(expiresAtMs - System.currentTimeMillis(), 0);
+            return TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMs, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, expiresAtMs, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMs, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.book.igo.user.infrastructure.repository;
+
+import com.book.igo.user.domain.repository.TokenRepository.RefreshSession;
+
+/**
+ * 로그인 세션 저장소의 Redis 키/값 규칙.
+ *
+ * <p>회원별 해시 {@code auth:sessions:<userId>} 에 세션 ID 를 필드로, 세션 상태를 값으로 저장합니다.</p>
+ *
+ * <pre>
+ * refreshJti|refreshExpiresAtMs|lastUsedAtMs|createdAtMs|accessJti|accessExpiresAtMs|deviceName
+ * </pre>
+ *
+ * <p>Lua 스크립트가 앞의 세 값(jti, 만료 시각, 마지막 사용 시각)을 직접 파싱하므로 순서를 바꾸면 안 됩니다.
+ * 기기 이름은 구분자를 포함할 수 있어 항상 마지막에 둡니다.</p>
+ */
+final class RefreshSessions {
+
+    static final String KEY_PREFIX = "auth:sessions:";
+
+    private static final char DELIMITER = '|';
+    private static final int FIELD_COUNT = 7;
+
+    private RefreshSessions() {
+    }
+
+    static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    static String encode(RefreshSession session) {
+        return session.refreshJti() + DELIMITER
+                + session.refreshExpiresAtMs() + DELIMITER
+                + session.lastUsedAtMs() + DELIMITER
+                + session.createdAtMs() + DELIMITER
+                + nullToEmpty(session.accessJti()) + DELIMITER
+                + session.accessExpiresAtMs() + DELIMITER
+                + nullToEmpty(session.deviceName());
+    }
+
+    /**
+     * Rotation 스크립트용 값 앞부분 ({@code refreshJti|refreshExpiresAtMs|lastUsedAtMs|}).
+     * 스크립트가 저장된 값의 createdAtMs 를 이어 붙입니다.
+     */
+    static String rotationHead(RefreshSession session) {
+        return session.refreshJti() + DELIMITER
+                + session.refreshExpiresAtMs() + DELIMITER
+                + session.lastUsedAtMs() + DELIMITER;
+    }
+
+    /**
+     * Rotation 스크립트용 값 중간부분 ({@code |accessJti|accessExpiresAtMs|}).
+     * 스크립트가 저장된 값의 deviceName 을 이어 붙입니다.
+     */
+    static String rotationMiddle(RefreshSession session) {
+        return String.valueOf(DELIMITER)
+                + nullToEmpty(session.accessJti()) + DELIMITER
+                + session.accessExpiresAtMs() + DELIMITER;
+    }
+
+    /**
+     * @return 디코딩된 세션, 형식이 맞지 않으면 null
+     */
+    static RefreshSession decode(String sessionId, String value) {
+        String[] parts = value.split("\\|", FIELD_COUNT);
+        if (parts.length != FIELD_COUNT) {
+            return null;
+        }
+
+        try {
+            return new RefreshSession(
+                    sessionId,
+                    parts[0],
+                    Long.parseLong(parts[1]),
+                    emptyToNull(parts[4]),
+                    Long.parseLong(parts[5]),
+                    Long.parseLong(parts[3]),
+                    Long.parseLong(parts[2]),
+                    emptyToNull(parts[6])
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
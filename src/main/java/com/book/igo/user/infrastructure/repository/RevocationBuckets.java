@@ -0,0 +1,73 @@
+package com.book.igo.user.infrastructure.repository;
+
+import com.book.igo.common.jwt.JwtTokenProvider;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * jti 기반 폐기 저장소의 Redis 키/필드 규칙.
+ *
+ * <p>폐기된 토큰은 만료 시각이 속한 1분 단위 버킷 해시({@code auth:revoked:<type>:<bucket>})에
+ * 16바이트 jti 필드로 저장됩니다. 버킷 키는 그 분의 마지막 토큰이 만료(+clock skew)되는 시점에 통째로 사라지므로
+ * 토큰별 TTL 관리가 필요 없습니다.</p>
+ */
+final class RevocationBuckets {
+
+    static final String ACCESS_PREFIX = "auth:revoked:access:";
+    static final String REFRESH_PREFIX = "auth:revoked:refresh:";
+
+    static final long BUCKET_MS = 60_000L;
+
+    /**
+     * 파서가 허용하는 시계 오차만큼 만료 이후에도 폐기 기록을 유지해야 합니다.
+     */
+    static final long RETENTION_GRACE_MS = JwtTokenProvider.DEFAULT_CLOCK_SKEW_SECONDS * 1000L;
+
+    static final byte[] PRESENT = {'1'};
+
+    private RevocationBuckets() {
+    }
+
+    static long bucketOf(long expiresAtMs) {
+        return Math.floorDiv(expiresAtMs, BUCKET_MS);
+    }
+
+    static String key(String prefix, long bucket) {
+        return prefix + bucket;
+    }
+
+    static byte[] keyBytes(String prefix, long bucket) {
+        return key(prefix, bucket).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 버킷 키가 삭제되어도 되는 시각 (버킷 끝 + 허용 오차).
+     */
+    static long retainUntil(long bucket) {
+        return (bucket + 1) * BUCKET_MS + RETENTION_GRACE_MS;
+    }
+
+    /**
+     * UUID 형식 jti 는 16바이트로 압축하고, 그 외 형식은 UTF-8 그대로 사용합니다.
+     */
+    static byte[] toField(String jti) {
+        try {
+            UUID uuid = UUID.fromString(jti);
+            return ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        } catch (IllegalArgumentException e) {
+            return jti.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    static String fromField(byte[] field) {
+        if (field.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(field);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return new String(field, StandardCharsets.UTF_8);
+    }
+}
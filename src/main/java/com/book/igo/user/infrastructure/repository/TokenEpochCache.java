@@ -0,0 +1,120 @@
+package com.book.igo.user.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 토큰 세대(epoch)의 노드 로컬 캐시.
+ *
+ * <p>세대는 "전체 로그아웃"이나 비밀번호 변경 때만 바뀌므로, 한 번 읽은 값을 노드 메모리에 두고
+ * 요청마다 토큰의 {@code ver} 클레임과 비교합니다. 캐시 히트 시 Redis 왕복이 없습니다.</p>
+ *
+ * <ul>
+ *   <li>세대 변경: Redis pub/sub 으로 모든 노드에 즉시 전파 (값은 단조 증가로만 반영)</li>
+ *   <li>유실 대비: {@code refresh-after-write-ms} 가 지난 엔트리는 다음 조회 시 백그라운드로 다시 읽음</li>
+ *   <li>용량: 최근 요청한 회원만 유지 ({@code max-size}, {@code expire-after-access-ms})</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TokenEpochCache implements MessageListener {
+
+    static final String KEY_PREFIX = "auth:token-epoch:";
+    static final String CHANNEL = "auth:token-epoch:events";
+
+    private static final String CACHE_NAME = "auth.token-epoch";
+    private static final char SEPARATOR = ':';
+
+    private final StringRedisTemplate template;
+    private final LoadingCache<Long, Long> epochs;
+
+    public TokenEpochCache(
+            StringRedisTemplate template,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auth.token-epoch.cache.max-size:100000}") long maxSize,
+            @Value("${auth.token-epoch.cache.expire-after-access-ms:1800000}") long expireAfterAccessMs,
+            @Value("${auth.token-epoch.cache.refresh-after-write-ms:60000}") long refreshAfterWriteMs
+    ) {
+        this.template = template;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccessMs, TimeUnit.MILLISECONDS)
+                .refreshAfterWrite(refreshAfterWriteMs, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, epochs, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * 캐시된 세대를 반환합니다. 처음 보는 회원이면 Redis 에서 읽어 캐시합니다.
+     *
+     * @throws org.springframework.dao.DataAccessException 캐시 미스 상태에서 Redis 조회가 실패한 경우
+     */
+    public long get(Long userId) {
+        return epochs.get(userId);
+    }
+
+    /**
+     * Redis 에서 최신 세대를 읽어 캐시에 반영합니다. 토큰 발급처럼 정확한 값이 필요한 곳에서 사용합니다.
+     */
+    public long reload(Long userId) {
+        long epoch = load(userId);
+        remember(userId, epoch);
+        return epoch;
+    }
+
+    /**
+     * 변경된 세대를 모든 노드(자신 포함)에 전파합니다.
+     */
+    public void publish(Long userId, long epoch) {
+        remember(userId, epoch);
+        template.convertAndSend(CHANNEL, userId + String.valueOf(SEPARATOR) + epoch);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(SEPARATOR);
+        if (idx <= 0) {
+            log.warn("Ignoring malformed token epoch event: {}", body);
+            return;
+        }
+
+        try {
+            remember(Long.parseLong(body.substring(0, idx)), Long.parseLong(body.substring(idx + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token epoch event: {}", body);
+        }
+    }
+
+    /**
+     * 늦게 도착한 이벤트나 리프레시 결과가 더 최신 값을 덮어쓰지 않도록 큰 값만 반영합니다.
+     */
+    private void remember(Long userId, long epoch) {
+        epochs.asMap().merge(userId, epoch, Math::max);
+    }
+
+    private long load(Long userId) {
+        String value = template.opsForValue().get(key(userId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
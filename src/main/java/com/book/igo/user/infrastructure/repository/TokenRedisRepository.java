@@ -2,65 +2,366 @@ package com.book.igo.user.infrastructure.repository;
 
 
 import com.book.igo.user.domain.repository.TokenRepository;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+@Slf4j
 @RequiredArgsConstructor
 @Repository
 public class TokenRedisRepository implements TokenRepository {
 
+    /**
+     * 세션 저장 스크립트. 만료 세션 정리 → LRU 제거 → 저장 → 해시 키 만료 갱신.
+     *
+     * <pre>
+     * KEYS[1] auth:sessions:&lt;userId&gt;
+     * ARGV    현재 시각, 세션 ID, 세션 값, 세션 만료 시각, 최대 세션 수
+     * 반환    제거된 세션의 {필드, 값, 필드, 값, ...}
+     * </pre>
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SAVE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            """
+            local now = tonumber(ARGV[1])
+            local keepUntil = tonumber(ARGV[4])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #entries, 2 do
+                local field, value = entries[i], entries[i + 1]
+                local exp, last = string.match(value, '^[^|]*|(%d+)|(%d+)|')
+                exp = tonumber(exp)
+                if exp == nil or exp <= now then
+                    redis.call('HDEL', KEYS[1], field)
+                elseif field ~= ARGV[2] then
+                    table.insert(live, {field, tonumber(last), value, exp})
+                end
+            end
+            table.sort(live, function(a, b) return a[2] < b[2] end)
+            local excess = #live - (tonumber(ARGV[5]) - 1)
+            local evicted = {}
+            for i = 1, #live do
+                if i <= excess then
+                    redis.call('HDEL', KEYS[1], live[i][1])
+                    table.insert(evicted, live[i][1])
+                    table.insert(evicted, live[i][3])
+                elseif live[i][4] > keepUntil then
+                    keepUntil = live[i][4]
+                end
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIREAT', KEYS[1], keepUntil)
+            return evicted
+            """,
+            List.class
+    );
+
+    /**
+     * 세션 하나를 꺼내면서 삭제하는 스크립트.
+     */
+    private static final RedisScript<String> DELETE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            """
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if value then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return value
+            """,
+            String.class
+    );
+
+    /**
+     * 세션 단위 RT Rotation 스크립트.
+     *
+     * <pre>
+     * KEYS[1] auth:sessions:&lt;userId&gt;      (세션 ID → 세션 값)
+     * KEYS[2] 기존 RT 의 폐기 버킷
+     * KEYS[3] 기존 AT 의 폐기 버킷 (AT 가 없으면 KEYS[2] 재사용)
+     * KEYS[4] 재발급 결과 캐시 (기존 RT jti 기준)
+     * ARGV    기존 RT jti, 기존 RT 필드, RT 버킷 유지 시각, 새 세션 값 앞부분, 새 RT TTL(ms),
+     *         AT 필드(없으면 빈 값), AT 버킷 유지 시각, 폐기 채널, 폐기 메시지,
+     *         재발급 결과, 재발급 결과 TTL(ms), 세션 ID, 새 세션 값 중간부분
+     *         (최초 로그인 시각과 기기 이름은 저장된 세션 값에서 그대로 가져옴)
+     * 반환    1=ROTATED, -1=REUSED, -2=NOT_FOUND, -3=MISMATCH
+     * </pre>
+     */
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('HEXISTS', KEYS[2], ARGV[2]) == 1 then
+                return -1
+            end
+            local stored = redis.call('HGET', KEYS[1], ARGV[12])
+            if not stored then
+                return -2
+            end
+            if string.match(stored, '^[^|]*') ~= ARGV[1] then
+                return -3
+            end
+            local created, device = string.match(stored, '^[^|]*|%d+|%d+|(%d+)|[^|]*|%d+|(.*)$')
+            redis.call('HSET', KEYS[2], ARGV[2], '1')
+            redis.call('PEXPIREAT', KEYS[2], ARGV[3])
+            if ARGV[6] ~= '' then
+                redis.call('HSET', KEYS[3], ARGV[6], '1')
+                redis.call('PEXPIREAT', KEYS[3], ARGV[7])
+                redis.call('PUBLISH', ARGV[8], ARGV[9])
+            end
+            redis.call('HSET', KEYS[1], ARGV[12], ARGV[4] .. (created or '0') .. ARGV[13] .. (device or ''))
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[5]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            end
+            redis.call('SET', KEYS[4], ARGV[10], 'PX', ARGV[11])
+            return 1
+            """,
+            Long.class
+    );
+
+    private static final byte[] EMPTY = new byte[0];
+
     private final StringRedisTemplate template;
+    private final AccessTokenBlacklistNearCache accessTokenBlacklistNearCache;
+    private final TokenEpochCache tokenEpochCache;
 
-    private String buildKey(Long userId) {
-        return "refreshToken:" + userId;
+    private String buildReissueResultKey(String oldRefreshJti) {
+        return "auth:reissue:result:" + oldRefreshJti;
     }
 
-    private String blacklistKey(String accessToken) {
-        return "auth:blacklist:access:" + accessToken;
+    @Override
+    public List<RefreshSession> saveRefreshSession(Long userId, RefreshSession session, int maxSessions) {
+        List<?> evicted = template.execute(
+                SAVE_SESSION_SCRIPT,
+                List.of(RefreshSessions.key(userId)),
+                String.valueOf(System.currentTimeMillis()),
+                session.sessionId(),
+                RefreshSessions.encode(session),
+                String.valueOf(session.refreshExpiresAtMs()),
+                String.valueOf(Math.max(maxSessions, 1))
+        );
+
+        if (evicted == null || evicted.isEmpty()) {
+            return List.of();
+        }
+
+        List<RefreshSession> sessions = new ArrayList<>(evicted.size() / 2);
+        for (int i = 0; i + 1 < evicted.size(); i += 2) {
+            RefreshSession decoded = RefreshSessions.decode(
+                    String.valueOf(evicted.get(i)),
+                    String.valueOf(evicted.get(i + 1))
+            );
+            if (decoded != null) {
+                sessions.add(decoded);
+            }
+        }
+        return sessions;
     }
 
-    private String blacklistRefreshKey(String refreshToken) {
-        return "auth:blacklist:refresh:" + refreshToken;
+    @Override
+    public List<RefreshSession> findRefreshSessions(Long userId) {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = template.opsForHash().entries(RefreshSessions.key(userId));
+
+        // 만료된 필드는 다음 저장 시 스크립트가 정리하므로 조회에서는 걸러내기만 함
+        return entries.entrySet().stream()
+                .map(e -> RefreshSessions.decode(String.valueOf(e.getKey()), String.valueOf(e.getValue())))
+                .filter(Objects::nonNull)
+                .filter(session -> session.refreshExpiresAtMs() > now)
+                .toList();
     }
 
     @Override
-    public void saveRefreshToken(Long userId, String refreshToken, long ttlMillis) {
-        String key = buildKey(userId);
-        template.opsForValue().set(key, refreshToken, Duration.ofMillis(ttlMillis));
+    public RefreshSession deleteRefreshSession(Long userId, String sessionId) {
+        String value = template.execute(
+                DELETE_SESSION_SCRIPT,
+                List.of(RefreshSessions.key(userId)),
+                sessionId
+        );
+        return value != null ? RefreshSessions.decode(sessionId, value) : null;
+    }
+
+    @Override
+    public void deleteAllRefreshSessions(Long userId) {
+        template.delete(RefreshSessions.key(userId));
+    }
+
+    @Override
+    public void blacklistAccessToken(String jti, long expiresAtMs) {
+        long retainUntil = revoke(RevocationBuckets.ACCESS_PREFIX, jti, expiresAtMs);
+        // 모든 노드의 near-cache 에 전파
+        accessTokenBlacklistNearCache.publish(jti, retainUntil);
+    }
+
+    @Override
+    public boolean isAccessTokenBlacklisted(String jti, long expiresAtMs) {
+        // 1. 로컬에 폐기 기록이 있으면 확정
+        if (accessTokenBlacklistNearCache.contains(jti)) {
+            return true;
+        }
+
+        // 2. near-cache 가 최신이면 Redis 왕복 없이 "블랙리스트 아님"
+        if (accessTokenBlacklistNearCache.isFresh()) {
+            return false;
+        }
+
+        // 3. 동기화가 밀린 상태 → Redis 직접 확인, Redis 장애 시 설정된 정책으로 판정
+        try {
+            return isRevoked(RevocationBuckets.ACCESS_PREFIX, jti, expiresAtMs);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable while checking access token blacklist: {}", e.getMessage());
+            return accessTokenBlacklistNearCache.blacklistedOnRedisFailure();
+        }
     }
 
     @Override
-    public String findRefreshToken(Long userId) {
-        return template.opsForValue().get(buildKey(userId));
+    public void blacklistRefreshToken(String jti, long expiresAtMs) {
+        revoke(RevocationBuckets.REFRESH_PREFIX, jti, expiresAtMs);
     }
 
     @Override
-    public void deleteRefreshToken(Long userId) {
-        template.delete(buildKey(userId));
+    public boolean isRefreshTokenBlacklisted(String jti, long expiresAtMs) {
+        return isRevoked(RevocationBuckets.REFRESH_PREFIX, jti, expiresAtMs);
     }
 
+    @Override
+    public RotationResult rotateRefreshToken(
+            Long userId,
+            String oldRefreshJti,
+            long oldRefreshExpiresAtMs,
+            RefreshSession newSession,
+            String accessJti,
+            long accessExpiresAtMs,
+            String reissueResult,
+            long reissueResultTtlMs
+    ) {
+        long refreshBucket = RevocationBuckets.bucketOf(oldRefreshExpiresAtMs);
+        String refreshBucketKey = RevocationBuckets.key(RevocationBuckets.REFRESH_PREFIX, refreshBucket);
+
+        boolean hasAccess = accessJti != null;
+        long accessBucket = RevocationBuckets.bucketOf(accessExpiresAtMs);
+        long accessRetainUntil = RevocationBuckets.retainUntil(accessBucket);
+        String accessBucketKey = hasAccess
+                ? RevocationBuckets.key(RevocationBuckets.ACCESS_PREFIX, accessBucket)
+                : refreshBucketKey;
+
+        long newRefreshTtl = Math.max(newSession.refreshExpiresAtMs() - System.currentTimeMillis(), 1);
+
+        Long code = template.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(
+                        RefreshSessions.key(userId),
+                        refreshBucketKey,
+                        accessBucketKey,
+                        buildReissueResultKey(oldRefreshJti)
+                ),
+                utf8(oldRefreshJti),
+                RevocationBuckets.toField(oldRefreshJti),
+                utf8(RevocationBuckets.retainUntil(refreshBucket)),
+                utf8(RefreshSessions.rotationHead(newSession)),
+                utf8(newRefreshTtl),
+                hasAccess ? RevocationBuckets.toField(accessJti) : EMPTY,
+                utf8(accessRetainUntil),
+                utf8(AccessTokenBlacklistNearCache.CHANNEL),
+                hasAccess ? utf8(AccessTokenBlacklistNearCache.message(accessJti, accessRetainUntil)) : EMPTY,
+                utf8(reissueResult),
+                utf8(Math.max(reissueResultTtlMs, 1)),
+                utf8(newSession.sessionId()),
+                utf8(RefreshSessions.rotationMiddle(newSession))
+        );
+
+        if (code == null) {
+            throw new IllegalStateException("Refresh token rotation script returned no result");
+        }
+
+        RotationResult result = switch (code.intValue()) {
+            case 1 -> RotationResult.ROTATED;
+            case -1 -> RotationResult.REUSED;
+            case -2 -> RotationResult.NOT_FOUND;
+            default -> RotationResult.MISMATCH;
+        };
+
+        if (result == RotationResult.ROTATED && hasAccess) {
+            // 스크립트의 PUBLISH 수신을 기다리지 않고 이 노드에 바로 반영
+            accessTokenBlacklistNearCache.remember(accessJti, accessRetainUntil);
+        }
+        return result;
+    }
 
     @Override
-    public void blacklistAccessToken(String accessToken, long ttlMillis) {
-        template.opsForValue()
-                .set(blacklistKey(accessToken), "blacklisted", Duration.ofMillis(ttlMillis));
+    public String findReissueResult(String oldRefreshJti) {
+        return template.opsForValue().get(buildReissueResultKey(oldRefreshJti));
     }
 
     @Override
-    public boolean isAccessTokenBlacklisted(String accessToken) {
-        return template.hasKey(blacklistKey(accessToken));
+    public long getTokenEpoch(Long userId) {
+        return tokenEpochCache.reload(userId);
     }
 
     @Override
-    public void blacklistRefreshToken(String refreshToken, long ttlMillis) {
-        template.opsForValue()
-                .set(blacklistRefreshKey(refreshToken), "blacklisted", Duration.ofMillis(ttlMillis));
+    public long increaseTokenEpoch(Long userId) {
+        Long epoch = template.opsForValue().increment(TokenEpochCache.key(userId));
+        if (epoch == null) {
+            throw new IllegalStateException("Token epoch increment returned no result");
+        }
+
+        // 모든 노드의 세대 캐시에 전파
+        tokenEpochCache.publish(userId, epoch);
+        return epoch;
     }
 
     @Override
-    public boolean isRefreshTokenBlacklisted(String refreshToken) {
-        return template.hasKey(blacklistRefreshKey(refreshToken));
+    public boolean isStaleTokenEpoch(Long userId, long tokenEpoch) {
+        try {
+            return tokenEpoch < tokenEpochCache.get(userId);
+        } catch (DataAccessException e) {
+            // 캐시 미스 + Redis 장애: 블랙리스트와 같은 정책으로 판정
+            log.warn("Redis unavailable while checking token epoch: {}", e.getMessage());
+            return accessTokenBlacklistNearCache.blacklistedOnRedisFailure();
+        }
+    }
+
+    private static byte[] utf8(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 만료 시각이 속한 분 버킷 해시에 16바이트 jti 를 추가하고, 버킷 키 만료를 한 번의 파이프라인으로 설정합니다.
+     *
+     * @return 폐기 기록이 유지되는 시각
+     */
+    private long revoke(String prefix, String jti, long expiresAtMs) {
+        long bucket = RevocationBuckets.bucketOf(expiresAtMs);
+        long retainUntil = RevocationBuckets.retainUntil(bucket);
+        byte[] key = RevocationBuckets.keyBytes(prefix, bucket);
+        byte[] field = RevocationBuckets.toField(jti);
+
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hSet(key, field, RevocationBuckets.PRESENT);
+            connection.keyCommands().pExpireAt(key, retainUntil);
+            return null;
+        });
+
+        return retainUntil;
+    }
+
+    private boolean isRevoked(String prefix, String jti, long expiresAtMs) {
+        byte[] key = RevocationBuckets.keyBytes(prefix, RevocationBuckets.bucketOf(expiresAtMs));
+        byte[] field = RevocationBuckets.toField(jti);
+
+        Boolean exists = template.execute(
+                (RedisCallback<Boolean>) connection -> connection.hashCommands().hExists(key, field)
+        );
+        return Boolean.TRUE.equals(exists);
     }
-}
\ No newline at end of file
+}
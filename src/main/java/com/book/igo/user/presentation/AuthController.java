@@ -1,17 +1,25 @@
 package com.book.igo.user.presentation;
 
 import com.book.igo.common.response.ApiResponse;
+import com.book.igo.common.security.JwtUserPrincipal;
 import com.book.igo.user.application.dto.request.LogoutRequest;
 import com.book.igo.user.application.dto.request.SignInRequest;
 import com.book.igo.user.application.dto.request.SignUpRequest;
 import com.book.igo.user.application.dto.request.TokenReissueRequest;
+import com.book.igo.user.application.dto.response.SessionResponse;
 import com.book.igo.user.application.dto.response.SignInResponse;
 import com.book.igo.user.application.dto.response.SignUpResponse;
 import com.book.igo.user.application.service.AuthService;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -38,9 +46,10 @@ public class AuthController {
 
     @PostMapping("/sign-in")
     public ResponseEntity<ApiResponse<SignInResponse>> signIn(
+            @RequestHeader(name = HttpHeaders.USER_AGENT, required = false) String userAgent,
             @RequestBody @Valid SignInRequest request
     ) {
-        SignInResponse response = authService.signIn(request);
+        SignInResponse response = authService.signIn(request, userAgent);
 
         return ResponseEntity
                 .ok(ApiResponse.success(response));
@@ -64,4 +73,29 @@ public class AuthController {
         authService.logout(accessTokenHeader, request.refreshToken());
         return ResponseEntity.ok(ApiResponse.success(null));
     }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(
+            @AuthenticationPrincipal JwtUserPrincipal principal
+    ) {
+        authService.logoutAll(principal.id());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions(
+            @AuthenticationPrincipal JwtUserPrincipal principal
+    ) {
+        List<SessionResponse> response = authService.getSessions(principal.id(), principal.sessionId());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<ApiResponse<Void>> revokeSession(
+            @AuthenticationPrincipal JwtUserPrincipal principal,
+            @PathVariable String sessionId
+    ) {
+        authService.revokeSession(principal.id(), sessionId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
 }
@@ -0,0 +1,93 @@
+package com.book.igo.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.support.MicroBenchmark;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인증 필터 한 번에 드는 토큰 검증 비용: 예전 방식(getter 4개가 각자 파서를 만들어 서명 검증)과
+ * {@link JwtTokenProvider#verifyAccessToken} (미리 만든 파서로 한 번 검증)을 비교합니다.
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET =
+            "ZmFrZV9zZWNyZXRfZm9yX2lnb19hcHBfMzIiZmFrZV9zZWNyZXRfZm9yX2lnb19hcHBfMzIi";
+
+    private static final int WARMUP_OPS = 20_000;
+    private static final int ROUNDS = 15;
+    private static final int OPS_PER_ROUND = 5_000;
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider("igo-app", SECRET, SECRET, 3_600_000L, 900_000L);
+
+
+    @Test
+    @DisplayName("요청당 한 번 검증이 클레임마다 파서를 만들어 검증하는 방식보다 빠르다")
+    void singlePassVerificationIsCheaperThanPerClaimParsing() {
+        String header = "Bearer " + accessToken();
+
+        double perClaim = MicroBenchmark.nanosPerOp("per-claim parser x4", WARMUP_OPS, ROUNDS, OPS_PER_ROUND,
+                () -> perClaimPrincipal(header));
+        double singlePass = MicroBenchmark.nanosPerOp("prebuilt parser x1", WARMUP_OPS, ROUNDS, OPS_PER_ROUND,
+                () -> singlePassPrincipal(header));
+        System.out.printf("[benchmark] speedup: %.2fx%n", perClaim / singlePass);
+
+        assertThat(singlePassPrincipal(header)).isEqualTo(perClaimPrincipal(header));
+        // 서명 검증 4회 → 1회. 측정 잡음을 감안해 2배 이상만 확인
+        assertThat(singlePass * 2).isLessThan(perClaim);
+    }
+
+    /**
+     * 예전 {@code JwtAuthenticationFilter}: getter 4개가 각자 새 파서를 만들어 파싱/검증.
+     */
+    private List<Object> perClaimPrincipal(String header) {
+        String token = jwtTokenProvider.stripBearer(header);
+        Long userId = Long.parseLong(parseWithNewParser(token).getSubject());
+        String email = parseWithNewParser(token).get("email", String.class);
+        String nickName = parseWithNewParser(token).get("nickName", String.class);
+        String role = parseWithNewParser(token).get("USER_ROLE", String.class);
+        return List.of(userId, email, nickName, role);
+    }
+
+    private List<Object> singlePassPrincipal(String header) {
+        TokenClaims claims = jwtTokenProvider.verifyAccessToken(header);
+        return List.of(claims.userId(), claims.email(), claims.nickName(), claims.role());
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(jwtTokenProvider.getAccessTokenKey())
+                .clockSkewSeconds(JwtTokenProvider.DEFAULT_CLOCK_SKEW_SECONDS)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private String accessToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .header().type("JWT")
+                .and()
+                .subject("42")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000L))
+                .claim("email", "bench@test.com")
+                .claim("nickName", "bench")
+                .claim("USER_ROLE", "USER")
+                .claim("ver", 0L)
+                .claim("sid", UUID.randomUUID().toString())
+                .id(UUID.randomUUID().toString())
+                .signWith(jwtTokenProvider.getAccessTokenKey(), SIG.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,29 @@
+package com.book.igo.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BucketSpecTest {
+
+    @Test
+    @DisplayName("용량과 분당 충전량이 양수면 만들 수 있다")
+    void acceptsPositiveValues() {
+        assertThat(new BucketSpec(20, 60).refillPerMs()).isEqualTo(0.001);
+    }
+
+    @Test
+    @DisplayName("분당 충전량이 0 이면 기동 시점에 거절한다")
+    void rejectsZeroRefill() {
+        assertThatThrownBy(() -> new BucketSpec(20, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("용량이 0 이하면 기동 시점에 거절한다")
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new BucketSpec(0, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BucketSpec(-1, 20)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
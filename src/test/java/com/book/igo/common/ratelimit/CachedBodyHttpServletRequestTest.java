@@ -0,0 +1,114 @@
+package com.book.igo.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.book.igo.common.exception.AppErrorCode;
+import com.book.igo.common.exception.AppException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class CachedBodyHttpServletRequestTest {
+
+    private static final int MAX_BODY_BYTES = 16;
+
+    @Test
+    @DisplayName("상한 이하의 본문은 보관하고 다시 읽을 수 있다")
+    void cachesBodyWithinLimit() throws IOException {
+        byte[] body = "{\"email\":\"a@b\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body);
+
+        CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, MAX_BODY_BYTES);
+
+        assertThat(cached.getBody()).isEqualTo(body);
+        assertThat(cached.getInputStream().readAllBytes()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Content-Length 가 상한을 넘으면 본문을 읽지 않고 거절한다")
+    void rejectsDeclaredLengthAboveLimit() {
+        ByteArrayInputStream source = new ByteArrayInputStream(new byte[1_000]);
+
+        assertPayloadTooLarge(request(1_000, source));
+        assertThat(source.available()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("길이를 모르는(chunked) 본문도 상한 + 1 바이트까지만 읽고 거절한다")
+    void rejectsUndeclaredBodyAboveLimitWithBoundedRead() {
+        ByteArrayInputStream source = new ByteArrayInputStream(new byte[1_000]);
+
+        assertPayloadTooLarge(request(-1, source));
+        assertThat(source.available()).isEqualTo(1_000 - (MAX_BODY_BYTES + 1));
+    }
+
+    @Test
+    @DisplayName("비동기 읽기는 보관한 본문을 바로 읽기 가능/완료로 알린다")
+    void readListenerIsNotifiedImmediately() throws IOException {
+        byte[] body = "{\"email\":\"a@b\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body);
+        ServletInputStream input = new CachedBodyHttpServletRequest(request, MAX_BODY_BYTES).getInputStream();
+
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("available");
+                byte[] buffer = new byte[4];
+                while (input.isReady() && !input.isFinished()) {
+                    int n = input.read(buffer);
+                    if (n > 0) {
+                        read.write(buffer, 0, n);
+                    }
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("available", "done");
+        assertThat(read.toByteArray()).isEqualTo(body);
+    }
+
+    private static void assertPayloadTooLarge(MockHttpServletRequest request) {
+        assertThatThrownBy(() -> new CachedBodyHttpServletRequest(request, MAX_BODY_BYTES))
+                .isInstanceOf(AppException.class)
+                .extracting(e -> ((AppException) e).getErrorCode())
+                .isEqualTo(AppErrorCode.PAYLOAD_TOO_LARGE);
+    }
+
+    private static MockHttpServletRequest request(long contentLength, ByteArrayInputStream source) {
+        return new MockHttpServletRequest() {
+            @Override
+            public long getContentLengthLong() {
+                return contentLength;
+            }
+
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(source);
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.common.outbox.OutboxPublisher;
+import com.book.igo.common.security.JwtUserPrincipal;
+import com.book.igo.group.application.dto.request.CreateGroupRequest;
+import com.book.igo.group.domain.entity.Group;
+import com.book.igo.group.domain.entity.GroupImage;
+import com.book.igo.group.domain.repository.GroupImageRepository;
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.user.domain.entity.User;
+import com.book.igo.user.domain.entity.UserRole;
+import com.book.igo.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 생성(태그 10개) + 이미지 10장 등록의 JDBC statement 수가 태그/이미지 수와 무관하게 고정되는지 확인합니다.
+ *
+ * <p>pooled 시퀀스로 insert 전에 id 를 알고, {@code order_inserts} + {@code jdbc.batch_size} 로 같은 테이블의 insert 가
+ * 한 배치로 묶여야 통과합니다. (배치가 꺼지면 행마다 statement 가 하나씩 늘어남)</p>
+ */
+@IntegrationTest
+class GroupCreateStatementCountTest {
+
+    private static final int TAG_COUNT = 10;
+    private static final int IMAGE_COUNT = 10;
+
+    /**
+     * 호스트 조회 1 + groups/group_tags/group_users insert 3 + 아웃박스 insert 1 (색인 동기화)
+     * + group_images insert 1 + 아웃박스 insert 1, 시퀀스 풀이 경계를 넘을 때의 여유분 포함. 배치가 안 되면 최소 25 개
+     */
+    private static final long MAX_STATEMENTS = 11;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupImageRepository groupImageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+
+    @Test
+    @DisplayName("태그 10개, 이미지 10장인 모임 생성은 고정된 수의 statement 로 끝난다")
+    void createGroupWithTagsAndImagesUsesBatchedInserts() {
+        User host = userRepository.save(User.builder()
+                .email("batch-host@test.com")
+                .password("password")
+                .nickName("host")
+                .build());
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+                host.getId(), host.getEmail(), host.getNickName(), UserRole.USER, "test-session");
+        List<String> tags = IntStream.range(0, TAG_COUNT).mapToObj(i -> "배치태그" + i).toList();
+
+        // 시퀀스 풀 할당과 태그 upsert(이름 → id 캐시)를 미리 끝내 둠
+        createWithImages(principal, tags);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertThat(statistics.isStatisticsEnabled()).isTrue();
+        statistics.clear();
+
+        createWithImages(principal, tags);
+
+        // group + group_tags 10 + group_users(호스트) + outbox(색인) + group_images 10 + outbox(이미지)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + TAG_COUNT + 1 + 1 + IMAGE_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    /**
+     * 모임 생성 후 {@code GroupImageService.attach} 와 같은 방식으로 이미지를 등록합니다. (스토리지 I/O 제외)
+     */
+    private void createWithImages(JwtUserPrincipal principal, List<String> tags) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        Long groupId = groupService.create(principal, new CreateGroupRequest(
+                "배치 insert 테스트", "서울", null, 37.5665, 126.9780,
+                startTime, startTime.plusHours(2), tags, "배치 insert 테스트 모임", 10)).id();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Group group = groupRepository.getReferenceById(groupId);
+            List<GroupImage> images = new ArrayList<>();
+            for (int i = 0; i < IMAGE_COUNT; i++) {
+                images.add(GroupImage.attach(group, "https://example.com/groups/" + groupId + "/" + i + ".jpg", i));
+            }
+            List<GroupImage> saved = groupImageRepository.saveAll(images);
+            outboxPublisher.publish(
+                    GroupImagesAttachedHandler.TYPE, groupId, saved.stream().map(GroupImage::getId).toList());
+        });
+    }
+}
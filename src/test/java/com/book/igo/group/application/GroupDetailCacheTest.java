@@ -0,0 +1,77 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.group.application.dto.response.GetGroupResponse;
+import com.book.igo.support.IntegrationTest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 상세 캐시의 L2 저장이 적재 도중의 무효화를 덮어쓰지 않는지 확인합니다.
+ */
+@IntegrationTest
+class GroupDetailCacheTest {
+
+    // GroupDetailCache.KEY_PREFIX / GENERATION_KEY_PREFIX
+    private static final String KEY_PREFIX = "group:detail:";
+    private static final String GENERATION_KEY_PREFIX = "group:detail:gen:";
+    private static final AtomicLong GROUP_SEQ = new AtomicLong(9_000_000L);
+
+    @Autowired
+    private GroupDetailCache groupDetailCache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+
+    @Test
+    @DisplayName("DB 에서 읽은 상세는 L2 에 저장된다")
+    void loadedDetailIsWrittenToRedis() {
+        long groupId = GROUP_SEQ.incrementAndGet();
+
+        groupDetailCache.get(groupId, id -> response(id, "원래 제목"));
+
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + groupId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 중 다른 노드가 무효화하면 적재한 (변경 전) 값을 L2 에 쓰지 않는다")
+    void evictionDuringLoadSkipsRedisWrite() {
+        long groupId = GROUP_SEQ.incrementAndGet();
+
+        groupDetailCache.get(groupId, id -> {
+            GetGroupResponse beforeUpdate = response(id, "변경 전 제목");
+            // 다른 노드의 evictNow 가 Redis 에 남기는 효과
+            redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + id);
+            redisTemplate.delete(KEY_PREFIX + id);
+            return beforeUpdate;
+        });
+
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + groupId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 이후 새로 시작한 적재는 다시 L2 에 저장된다")
+    void loadAfterEvictionIsWritten() {
+        long groupId = GROUP_SEQ.incrementAndGet();
+        groupDetailCache.get(groupId, id -> response(id, "변경 전 제목"));
+
+        groupDetailCache.evictNow(groupId);
+        GetGroupResponse reloaded = groupDetailCache.get(groupId, id -> response(id, "변경 후 제목"));
+
+        assertThat(reloaded.title()).isEqualTo("변경 후 제목");
+        assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + groupId)).contains("변경 후 제목");
+    }
+
+    private static GetGroupResponse response(Long groupId, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new GetGroupResponse(groupId, title, "서울", null, null, null, now.plusDays(1), now.plusDays(1).plusHours(2),
+                List.of(), List.of(), List.of(), "설명", 1, 10, null, now, now, 1, null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.book.igo.group.application.dto.request.NearbySort;
+import com.book.igo.group.domain.repository.GroupGeoSource;
+import com.book.igo.group.domain.repository.GroupRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class GroupGeoIndexTest {
+
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Test
+    @DisplayName("적재가 이미 읽은 참여 인원 변경은 교체 직후 다시 반영돼도 두 번 세지 않는다")
+    void participantChangeDuringLoadIsNotCountedTwice() {
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        GroupGeoIndex index = new GroupGeoIndex(groupRepository, 0.01, 100);
+
+        // 적재가 모임 행을 읽기 전에 참여가 커밋됨: 적재 결과(3명)에 이미 반영돼 있음
+        when(groupRepository.findUpcomingGeoSourcesAfter(any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    index.setParticipantsAfterCommit(1L, 3);
+                    return List.of(source(1L, 3));
+                });
+
+        index.load();
+
+        assertThat(participantCounts(index)).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("적재가 모임 행을 읽은 뒤 커밋된 참여 인원 변경도 교체된 색인에 남는다")
+    void participantChangeAfterRowReadSurvivesSwap() {
+        GroupRepository groupRepository = mock(GroupRepository.class);
+        GroupGeoIndex index = new GroupGeoIndex(groupRepository, 0.01, 100);
+
+        when(groupRepository.findUpcomingGeoSourcesAfter(any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    List<GroupGeoSource> batch = List.of(source(1L, 2));
+                    index.setParticipantsAfterCommit(1L, 3);
+                    return batch;
+                });
+
+        index.load();
+
+        assertThat(participantCounts(index)).containsExactly(3);
+    }
+
+    private static List<Integer> participantCounts(GroupGeoIndex index) {
+        return index.withinRadius(LATITUDE, LONGITUDE, 1_000, NearbySort.DISTANCE, 10).stream()
+                .map(match -> match.source().participantCount())
+                .toList();
+    }
+
+    private static GroupGeoSource source(Long id, int participantCount) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new GroupGeoSource(id, "모임 " + id, "서울", start, start.plusHours(2), 10, participantCount,
+                "호스트", LATITUDE, LONGITUDE);
+    }
+}
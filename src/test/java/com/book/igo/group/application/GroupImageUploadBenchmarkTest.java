@@ -0,0 +1,140 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.group.application.ImageStorageService.UploadedImage;
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.support.MicroBenchmark;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * 서버 경유 이미지 10장 업로드 지연 시간: 예전 방식(동기 클라이언트로 한 장씩, {@code getBytes()} 로 힙 복사)과
+ * {@link ImageStorageService#uploadGroupImages} (비동기 클라이언트로 동시에, 스트림 전송)를 비교합니다.
+ *
+ * <p>S3 대신 로컬 MinIO 컨테이너에 올리므로 네트워크 지연이 거의 없습니다. 실제 S3 에서는 요청당 왕복 시간이 커서
+ * 동시 업로드의 이득이 더 큽니다.</p>
+ */
+@Tag("benchmark")
+@IntegrationTest
+class GroupImageUploadBenchmarkTest {
+
+    private static final String BUCKET = "igo-benchmark";
+    private static final String ACCESS_KEY = "benchmark";
+    private static final String SECRET_KEY = "benchmark-secret";
+
+    private static final int IMAGES = 10;
+    private static final int IMAGE_BYTES = 1024 * 1024;
+
+    private static final int WARMUP_OPS = 3;
+    private static final int ROUNDS = 10;
+
+    @Container
+    private static final GenericContainer<?> MINIO = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+            .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+            .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private static final AtomicLong GROUP_SEQ = new AtomicLong(1_000_000L);
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private S3Client s3Client;
+
+    @DynamicPropertySource
+    static void s3Properties(DynamicPropertyRegistry registry) {
+        String endpoint = "http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000);
+        registry.add("aws.s3.endpoint", () -> endpoint);
+        registry.add("aws.s3.bucket", () -> BUCKET);
+        registry.add("aws.s3.public-base-url", () -> endpoint + "/" + BUCKET);
+        registry.add("aws.s3.access-key-id", () -> ACCESS_KEY);
+        registry.add("aws.s3.secret-access-key", () -> SECRET_KEY);
+    }
+
+    @BeforeEach
+    void createBucket() {
+        try {
+            s3Client.createBucket(create -> create.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException e) {
+            // 이전 테스트에서 이미 만듦
+        }
+    }
+
+    @Test
+    @DisplayName("이미지 10장은 동시 스트림 업로드가 한 장씩 올리는 업로드보다 빨리 끝난다")
+    void parallelStreamingUploadBeatsSequentialUpload() {
+        List<MultipartFile> files = images();
+
+        double sequential = MicroBenchmark.nanosPerOp("sequential sync x10 (1MB)", WARMUP_OPS, ROUNDS, 1,
+                () -> uploadSequentially(GROUP_SEQ.incrementAndGet(), files));
+        double parallel = MicroBenchmark.nanosPerOp("parallel async x10 (1MB)", WARMUP_OPS, ROUNDS, 1,
+                () -> imageStorageService.uploadGroupImages(GROUP_SEQ.incrementAndGet(), files));
+        System.out.printf("[benchmark] sequential: %.1f ms, parallel: %.1f ms (%.2fx)%n",
+                sequential / 1_000_000, parallel / 1_000_000, sequential / parallel);
+
+        List<UploadedImage> uploaded = imageStorageService.uploadGroupImages(GROUP_SEQ.incrementAndGet(), files);
+        assertThat(uploaded).hasSize(IMAGES);
+        uploaded.forEach(image -> assertThat(imageStorageService.findObject(image.key()))
+                .hasValueSatisfying(object -> assertThat(object.size()).isEqualTo(IMAGE_BYTES)));
+        assertThat(parallel).isLessThan(sequential);
+    }
+
+    /**
+     * 예전 {@code uploadGroupImage} 를 파일마다 차례로 호출하던 방식.
+     */
+    private List<String> uploadSequentially(Long groupId, List<MultipartFile> files) {
+        List<String> keys = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            String key = "groups/" + groupId + "/" + UUID.randomUUID() + ".jpg";
+            try {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(BUCKET)
+                                .key(key)
+                                .contentType(file.getContentType())
+                                .build(),
+                        RequestBody.fromBytes(file.getBytes()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    private static List<MultipartFile> images() {
+        Random random = new Random(42);
+        List<MultipartFile> files = new ArrayList<>(IMAGES);
+        for (int i = 0; i < IMAGES; i++) {
+            byte[] bytes = new byte[IMAGE_BYTES];
+            random.nextBytes(bytes);
+            files.add(new MockMultipartFile("images", "image-" + i + ".jpg", "image/jpeg", bytes));
+        }
+        return files;
+    }
+}
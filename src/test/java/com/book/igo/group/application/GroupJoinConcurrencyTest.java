@@ -0,0 +1,181 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.common.exception.AppException;
+import com.book.igo.common.security.JwtUserPrincipal;
+import com.book.igo.group.application.dto.request.CreateGroupRequest;
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupUserRepository;
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.user.domain.entity.User;
+import com.book.igo.user.domain.entity.UserRole;
+import com.book.igo.user.domain.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 한 모임에 참여/나가기가 동시에 몰릴 때 좌석(Redis), 참여 이력, {@code participant_count} 가 어긋나지 않는지 확인합니다.
+ */
+@IntegrationTest
+class GroupJoinConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 50;
+    private static final int JOINERS = 2_000;
+    private static final int WAITING_JOINERS = 500;
+    private static final int THREADS = 32;
+
+    // GroupSeatRedisRepository.KEY_PREFIX
+    private static final String SEAT_KEY_PREFIX = "group:seats:";
+    private static final AtomicInteger USER_SEQ = new AtomicInteger();
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupJoinService groupJoinService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupUserRepository groupUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+
+    @Test
+    @DisplayName("한 모임에 수천 명이 동시에 참여해도 정원을 넘지 않는다")
+    void concurrentJoinsNeverOversubscribe() throws InterruptedException {
+        Long groupId = createGroup();
+        List<Long> joinerIds = saveUsers(JOINERS);
+
+        List<Task> tasks = joinerIds.stream()
+                .map(userId -> new Task("join", () -> groupJoinService.join(userId, groupId)))
+                .toList();
+        Map<String, Integer> outcomes = runConcurrently(tasks);
+
+        // 호스트가 한 자리를 차지
+        assertThat(outcomes).containsOnlyKeys("join:OK", "join:GROUP_FULL");
+        assertThat(outcomes.get("join:OK")).isEqualTo(MAX_PARTICIPANTS - 1);
+        assertConsistent(groupId);
+    }
+
+    @Test
+    @DisplayName("참여와 중복 나가기가 섞여도 좌석 수와 참여 인원이 실제 참여자 수와 같다")
+    void concurrentJoinAndDuplicateLeaveKeepCountsConsistent() throws InterruptedException {
+        Long groupId = createGroup();
+        List<Long> memberIds = saveUsers(MAX_PARTICIPANTS - 1);
+        memberIds.forEach(userId -> groupJoinService.join(userId, groupId));
+
+        // 기존 참여자는 같은 나가기를 두 번씩, 대기자는 빈 자리에 참여
+        List<Task> tasks = new ArrayList<>();
+        for (Long userId : memberIds) {
+            tasks.add(new Task("leave", () -> groupJoinService.leave(userId, groupId)));
+            tasks.add(new Task("leave", () -> groupJoinService.leave(userId, groupId)));
+        }
+        for (Long userId : saveUsers(WAITING_JOINERS)) {
+            tasks.add(new Task("join", () -> groupJoinService.join(userId, groupId)));
+        }
+        Collections.shuffle(tasks);
+        Map<String, Integer> outcomes = runConcurrently(tasks);
+
+        assertThat(outcomes).containsOnlyKeys("leave:OK", "leave:NOT_JOINED", "join:OK", "join:GROUP_FULL");
+        assertThat(outcomes.get("leave:OK")).isEqualTo(memberIds.size());
+        assertThat(outcomes.get("leave:NOT_JOINED")).isEqualTo(memberIds.size());
+        assertConsistent(groupId);
+    }
+
+    private void assertConsistent(Long groupId) {
+        int active = groupUserRepository.findActiveUserIds(groupId).size();
+        int participantCount = groupRepository.findById(groupId).orElseThrow().getParticipantCount();
+        Long seats = redisTemplate.opsForZSet().zCard(SEAT_KEY_PREFIX + groupId);
+
+        assertThat(active).isLessThanOrEqualTo(MAX_PARTICIPANTS);
+        assertThat(participantCount).isEqualTo(active);
+        assertThat(seats).isNotNull().isEqualTo((long) active);
+    }
+
+    /**
+     * 모든 작업을 출발선에 세운 뒤 한꺼번에 실행하고, "라벨:결과" 별 건수를 돌려줍니다. (결과는 OK, 에러 코드 또는 예외 클래스)
+     */
+    private static Map<String, Integer> runConcurrently(List<Task> tasks) throws InterruptedException {
+        Map<String, Integer> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Task task : tasks) {
+                executor.execute(() -> {
+                    String result;
+                    try {
+                        start.await();
+                        task.action().run();
+                        result = "OK";
+                    } catch (AppException e) {
+                        result = e.getErrorCode().toString();
+                    } catch (Exception e) {
+                        result = e.getClass().getSimpleName();
+                    }
+                    outcomes.merge(task.label() + ":" + result, 1, Integer::sum);
+                    done.countDown();
+                });
+            }
+            start.countDown();
+            assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private Long createGroup() {
+        User host = userRepository.save(newUser());
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+                host.getId(), host.getEmail(), host.getNickName(), UserRole.USER, "test-session");
+
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        CreateGroupRequest request = new CreateGroupRequest(
+                "동시 참여 테스트", "서울", null, 37.5665, 126.9780,
+                startTime, startTime.plusHours(2), List.of(), "동시 참여 테스트 모임", MAX_PARTICIPANTS);
+        return groupService.create(principal, request).id();
+    }
+
+    private List<Long> saveUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(newUser());
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private static User newUser() {
+        int seq = USER_SEQ.incrementAndGet();
+        return User.builder()
+                .email("join-" + seq + "@test.com")
+                .password("password")
+                .nickName("user" + seq)
+                .build();
+    }
+
+    private record Task(String label, Runnable action) {
+    }
+}
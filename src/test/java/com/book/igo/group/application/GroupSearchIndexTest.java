@@ -0,0 +1,94 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.book.igo.group.domain.repository.GroupRepository;
+import com.book.igo.group.domain.repository.GroupSearchSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+
+class GroupSearchIndexTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @TempDir
+    Path tempDir;
+
+    private GroupRepository groupRepository;
+    private GroupSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findSearchSourcesAfter(anyLong(), any(Limit.class))).thenReturn(
+                List.of(source(1L, "주말 독서 모임"), source(2L, "평일 독서 스터디")),
+                List.of(source(3L, "독서 토론")));
+
+        index = new GroupSearchIndex(groupRepository, tempDir.resolve("index").toString(), BATCH_SIZE, false);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("재구축이 도중에 실패하면 기존 색인으로 계속 검색된다")
+    void failedRebuildKeepsCurrentIndex() throws IOException {
+        when(groupRepository.findSearchSourcesAfter(anyLong(), any(Limit.class))).thenReturn(
+                List.of(source(1L, "주말 독서 모임"), source(2L, "평일 독서 스터디"))
+        ).thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        assertThatThrownBy(() -> index.rebuild()).isInstanceOf(DataAccessResourceFailureException.class);
+        index.commit();
+
+        assertThat(groupIds("독서")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(tempDir.resolve("index"));
+        }
+    }
+
+    @Test
+    @DisplayName("재구축이 끝나면 DB 에서 사라진 모임은 색인에서도 빠진다")
+    void completedRebuildReplacesIndex() {
+        when(groupRepository.findSearchSourcesAfter(anyLong(), any(Limit.class))).thenReturn(
+                List.of(source(1L, "주말 독서 모임")));
+
+        index.rebuild();
+
+        assertThat(groupIds("독서")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구축 밖에서 반영한 변경은 바로 검색된다")
+    void incrementalUpdateIsSearchable() {
+        index.indexAfterCommit(source(4L, "독서 번개"));
+        index.removeAfterCommit(2L);
+
+        assertThat(groupIds("독서")).containsExactlyInAnyOrder(1L, 3L, 4L);
+    }
+
+    private List<Long> groupIds(String text) {
+        return index.search(text, null, 10).stream().map(GroupSearchIndex.Hit::groupId).toList();
+    }
+
+    private static GroupSearchSource source(Long id, String title) {
+        return new GroupSearchSource(id, title, null, null);
+    }
+}
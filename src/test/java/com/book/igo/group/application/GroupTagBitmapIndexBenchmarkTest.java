@@ -0,0 +1,242 @@
+package com.book.igo.group.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.support.MicroBenchmark;
+import com.book.igo.user.domain.entity.User;
+import com.book.igo.user.domain.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 모임-태그 연결 100만 건에서 {@link GroupTagBitmapIndex#search} 와, 그 인덱스가 대신하는
+ * {@code v1_group_tags} 서브쿼리(EXISTS / NOT EXISTS) 검색의 한 페이지 지연 시간을 비교합니다.
+ *
+ * <p>모임 20만 개에 태그 5개씩, 태그 1,000 종은 앞쪽 id 가 훨씬 자주 쓰이도록 치우치게 MySQL 에 넣고,
+ * 비트맵 색인은 같은 DB 에서 적재합니다. 두 경로의 결과가 같은지도 확인합니다.</p>
+ */
+@Tag("benchmark")
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GroupTagBitmapIndexBenchmarkTest {
+
+    // 다른 테스트 데이터와 겹치지 않는 id 범위 (모임 id 는 int 범위여야 함)
+    private static final long GROUP_ID_BASE = 100_000_000L;
+    private static final long TAG_ID_BASE = 100_000L;
+
+    private static final int GROUPS = 200_000;
+    private static final int TAGS_PER_GROUP = 5;
+    private static final int TAG_VOCABULARY = 1_000;
+    private static final int INSERT_BATCH_ROWS = 5_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final int BITMAP_WARMUP_OPS = 2_000;
+    private static final int BITMAP_OPS_PER_ROUND = 500;
+    private static final int SQL_WARMUP_OPS = 20;
+    private static final int SQL_OPS_PER_ROUND = 10;
+    private static final int ROUNDS = 10;
+
+    /**
+     * 비트맵 한 페이지 검색의 중앙값 상한. 비트맵 연산만 하므로 실제로는 이보다 훨씬 작아야 함
+     */
+    private static final double MAX_MEDIAN_NANOS = 20_000_000;
+
+    @Autowired
+    private GroupTagBitmapIndex index;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+
+    @BeforeAll
+    void seed() {
+        long hostId = userRepository.save(User.builder()
+                .email("tag-benchmark-host@test.com")
+                .password("password")
+                .nickName("tag-benchmark-host")
+                .build()).getId();
+
+        long startedAt = System.nanoTime();
+        List<String> rows = new ArrayList<>(INSERT_BATCH_ROWS);
+        for (int i = 1; i <= TAG_VOCABULARY; i++) {
+            rows.add("(" + tagId(i) + ", 'bench-tag-" + i + "', now(), now())");
+        }
+        insert("insert into v1_tags (tag_id, name, created_at, updated_at) values ", rows);
+
+        for (long groupId = GROUP_ID_BASE + 1; groupId <= GROUP_ID_BASE + GROUPS; groupId++) {
+            rows.add("(" + groupId + ", 'bench', 'bench', '2099-01-01 10:00:00', '2099-01-01 12:00:00', 'bench', "
+                    + "10, 1, " + hostId + ", now(), now())");
+            flushIfFull("insert into v1_groups (group_id, title, location, start_time, end_time, description, "
+                    + "max_participants, participant_count, host_id, created_at, updated_at) values ", rows);
+        }
+        insert("insert into v1_groups (group_id, title, location, start_time, end_time, description, "
+                + "max_participants, participant_count, host_id, created_at, updated_at) values ", rows);
+
+        Random random = new Random(42);
+        long groupTagId = GROUP_ID_BASE;
+        String insertPairs = "insert into v1_group_tags (group_tag_id, group_id, tag_id, created_at, updated_at) values ";
+        for (long groupId = GROUP_ID_BASE + 1; groupId <= GROUP_ID_BASE + GROUPS; groupId++) {
+            Set<Long> tags = new HashSet<>();
+            while (tags.size() < TAGS_PER_GROUP) {
+                // 세제곱으로 치우친 분포: 1 ~ 10 번 태그가 전체의 약 20%
+                double r = random.nextDouble();
+                tags.add(tagId(1 + (int) (TAG_VOCABULARY * r * r * r)));
+            }
+            for (Long tagId : tags) {
+                rows.add("(" + ++groupTagId + ", " + groupId + ", " + tagId + ", now(), now())");
+                flushIfFull(insertPairs, rows);
+            }
+        }
+        insert(insertPairs, rows);
+        jdbcTemplate.execute("analyze table v1_groups, v1_group_tags");
+        System.out.printf("[benchmark] seed 1M pairs into MySQL: %d ms%n", (System.nanoTime() - startedAt) / 1_000_000);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from v1_group_tags where group_tag_id > ?", Long.class, GROUP_ID_BASE))
+                .isEqualTo(1_000_000L);
+
+        startedAt = System.nanoTime();
+        index.load();
+        System.out.printf("[benchmark] load 1M pairs into bitmaps: %d ms%n", (System.nanoTime() - startedAt) / 1_000_000);
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("인기 태그 AND 조합")
+    void allOfPopularTags() {
+        measure("allOf(1, 2)", tagIds(1, 2), List.of(), List.of());
+    }
+
+    @Test
+    @DisplayName("AND + OR + NOT 조합")
+    void mixedFilter() {
+        measure("allOf(1) anyOf(3..7) noneOf(2)", tagIds(1), tagIds(3, 4, 5, 6, 7), tagIds(2));
+    }
+
+    @Test
+    @DisplayName("드문 태그 OR 조합")
+    void anyOfRareTags() {
+        measure("anyOf(900..904)", List.of(), tagIds(900, 901, 902, 903, 904), List.of());
+    }
+
+    @Test
+    @DisplayName("NOT 만 있는 조합 (전체 모임에서 제외)")
+    void noneOfOnly() {
+        measure("noneOf(1, 2, 3)", List.of(), List.of(), tagIds(1, 2, 3));
+    }
+
+    private void measure(String name, List<Long> allOf, List<Long> anyOf, List<Long> noneOf) {
+        long middle = GROUP_ID_BASE + GROUPS / 2;
+
+        // 첫 페이지와 중간 페이지 모두 두 경로의 결과가 같아야 함
+        List<Long> firstPage = index.search(allOf, anyOf, noneOf, GROUP_ID_BASE, PAGE_SIZE);
+        assertThat(firstPage).hasSize(PAGE_SIZE).isEqualTo(sql(allOf, anyOf, noneOf, GROUP_ID_BASE, PAGE_SIZE));
+        assertThat(index.search(allOf, anyOf, noneOf, middle, PAGE_SIZE))
+                .isEqualTo(sql(allOf, anyOf, noneOf, middle, PAGE_SIZE));
+
+        double bitmapFirst = MicroBenchmark.nanosPerOp(name + " bitmap first page",
+                BITMAP_WARMUP_OPS, ROUNDS, BITMAP_OPS_PER_ROUND,
+                () -> index.search(allOf, anyOf, noneOf, GROUP_ID_BASE, PAGE_SIZE));
+        double bitmapMiddle = MicroBenchmark.nanosPerOp(name + " bitmap middle page",
+                BITMAP_WARMUP_OPS, ROUNDS, BITMAP_OPS_PER_ROUND,
+                () -> index.search(allOf, anyOf, noneOf, middle, PAGE_SIZE));
+        double sqlFirst = MicroBenchmark.nanosPerOp(name + " sql first page",
+                SQL_WARMUP_OPS, ROUNDS, SQL_OPS_PER_ROUND,
+                () -> sql(allOf, anyOf, noneOf, GROUP_ID_BASE, PAGE_SIZE));
+        double sqlMiddle = MicroBenchmark.nanosPerOp(name + " sql middle page",
+                SQL_WARMUP_OPS, ROUNDS, SQL_OPS_PER_ROUND,
+                () -> sql(allOf, anyOf, noneOf, middle, PAGE_SIZE));
+
+        assertThat(bitmapFirst).isLessThan(MAX_MEDIAN_NANOS).isLessThan(sqlFirst);
+        assertThat(bitmapMiddle).isLessThan(MAX_MEDIAN_NANOS).isLessThan(sqlMiddle);
+    }
+
+    /**
+     * 비트맵 색인 이전의 방식: 같은 조건을 {@code v1_group_tags} 서브쿼리로 걸러 모임 id 순으로 한 페이지.
+     */
+    private List<Long> sql(
+            Collection<Long> allOf,
+            Collection<Long> anyOf,
+            Collection<Long> noneOf,
+            long afterGroupId,
+            int limit
+    ) {
+        StringBuilder query = new StringBuilder("""
+                select g.group_id
+                from v1_groups g
+                where g.deleted_at is null
+                  and g.group_id > :afterGroupId
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterGroupId", afterGroupId)
+                .addValue("limit", limit);
+
+        int i = 0;
+        for (Long tagId : allOf) {
+            String param = "all" + i++;
+            query.append(" and exists (select 1 from v1_group_tags gt where gt.group_id = g.group_id and gt.tag_id = :")
+                    .append(param).append(")");
+            params.addValue(param, tagId);
+        }
+        if (!anyOf.isEmpty()) {
+            query.append(" and exists (select 1 from v1_group_tags gt where gt.group_id = g.group_id and gt.tag_id in (:anyOf))");
+            params.addValue("anyOf", anyOf);
+        }
+        if (!noneOf.isEmpty()) {
+            query.append(" and not exists (select 1 from v1_group_tags gt where gt.group_id = g.group_id and gt.tag_id in (:noneOf))");
+            params.addValue("noneOf", noneOf);
+        }
+        query.append(" order by g.group_id limit :limit");
+
+        return namedJdbcTemplate.queryForList(query.toString(), params, Long.class);
+    }
+
+    private void flushIfFull(String insertPrefix, List<String> rows) {
+        if (rows.size() >= INSERT_BATCH_ROWS) {
+            insert(insertPrefix, rows);
+        }
+    }
+
+    private void insert(String insertPrefix, List<String> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        StringJoiner values = new StringJoiner(", ", insertPrefix, "");
+        rows.forEach(values::add);
+        jdbcTemplate.update(values.toString());
+        rows.clear();
+    }
+
+    private static List<Long> tagIds(int... tagNumbers) {
+        List<Long> ids = new ArrayList<>(tagNumbers.length);
+        for (int tagNumber : tagNumbers) {
+            ids.add(tagId(tagNumber));
+        }
+        return ids;
+    }
+
+    private static long tagId(int tagNumber) {
+        return TAG_ID_BASE + tagNumber;
+    }
+}
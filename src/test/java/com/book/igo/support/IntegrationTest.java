@@ -0,0 +1,24 @@
+package com.book.igo.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL / Redis 컨테이너를 띄운 전체 컨텍스트 테스트. Docker 가 없으면 건너뜁니다.
+ *
+ * <p>dev 설정 위에 {@code application-test.yml} 을 덮어씁니다.</p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles({"dev", "test"})
+@Testcontainers(disabledWithoutDocker = true)
+public @interface IntegrationTest {
+}
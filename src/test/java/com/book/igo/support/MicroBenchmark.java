@@ -0,0 +1,44 @@
+package com.book.igo.support;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * JMH 없이 JUnit 안에서 돌리는 간이 마이크로벤치마크.
+ *
+ * <p>워밍업 후 {@code rounds} 번 측정해 라운드별 op 당 시간의 중앙값을 돌려줍니다. 결과는 JIT 가 지우지 못하도록
+ * 해시를 모아 둡니다. 절대값보다 같은 JVM 에서 잰 두 구현의 비교에 쓰십시오.</p>
+ */
+public final class MicroBenchmark {
+
+    private static volatile int sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * @return op 한 번의 중앙값 시간 (ns)
+     */
+    public static double nanosPerOp(String name, int warmupOps, int rounds, int opsPerRound, Supplier<?> op) {
+        int hash = 0;
+        for (int i = 0; i < warmupOps; i++) {
+            hash += op.get().hashCode();
+        }
+
+        double[] samples = new double[rounds];
+        for (int round = 0; round < rounds; round++) {
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < opsPerRound; i++) {
+                hash += op.get().hashCode();
+            }
+            samples[round] = (double) (System.nanoTime() - startedAt) / opsPerRound;
+        }
+        sink = hash;
+
+        Arrays.sort(samples);
+        double median = samples[rounds / 2];
+        System.out.printf("[benchmark] %s: %.1f ns/op (median of %d rounds x %d ops)%n",
+                name, median, rounds, opsPerRound);
+        return median;
+    }
+}
@@ -0,0 +1,73 @@
+package com.book.igo.tag.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절은 초성/중성/종성 자모로, 겹받침과 겹모음은 기본 자모로 푼다")
+    void decomposeSplitsSyllablesAndCompounds() {
+        assertThat(HangulJamo.decompose("스포츠")).isEqualTo("ㅅㅡㅍㅗㅊㅡ");
+        assertThat(HangulJamo.decompose("슾")).isEqualTo("ㅅㅡㅍ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄺㅘ")).isEqualTo("ㄹㄱㅗㅏ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절의 분해 결과는 완성된 단어 분해 결과의 접두사다")
+    void partialSyllableIsPrefixOfWord() {
+        assertThat(HangulJamo.decompose("스포츠")).startsWith(HangulJamo.decompose("슾"));
+        assertThat(HangulJamo.decompose("달걀")).startsWith(HangulJamo.decompose("닭"));
+    }
+
+    @Test
+    @DisplayName("한글이 아닌 문자는 소문자로 그대로 둔다")
+    void decomposeLowercasesOtherCharacters() {
+        assertThat(HangulJamo.decompose("K팝")).isEqualTo("kㅍㅏㅂ");
+        assertThat(HangulJamo.decompose("Java 21")).isEqualTo("java 21");
+    }
+
+    @Test
+    @DisplayName("초성 키는 음절의 초성만 남긴다")
+    void choseongKeepsInitialConsonants() {
+        assertThat(HangulJamo.choseong("스포츠")).isEqualTo("ㅅㅍㅊ");
+        assertThat(HangulJamo.choseong("K팝")).isEqualTo("kㅍ");
+        assertThat(HangulJamo.choseong("까페")).isEqualTo("ㄲㅍ");
+    }
+
+    @Test
+    @DisplayName("초성 질의에 음절이나 모음이 섞이거나 자음이 없으면 초성 trie 를 타지 않는다")
+    void walkChoseongRejectsNonChoseongQueries() {
+        TagSuggestTrie.Builder builder = new TagSuggestTrie.Builder(10);
+        builder.add(HangulJamo.choseong("스포츠"), 0);
+        builder.add(HangulJamo.choseong("K팝"), 1);
+        TagSuggestTrie trie = builder.build();
+
+        assertThat(HangulJamo.walkChoseong(trie, "ㅅㅍ")).isPositive();
+        assertThat(HangulJamo.walkChoseong(trie, "Kㅍ")).isPositive();
+        assertThat(HangulJamo.walkChoseong(trie, "스ㅍ")).isEqualTo(-1);
+        assertThat(HangulJamo.walkChoseong(trie, "ㅅㅡ")).isEqualTo(-1);
+        assertThat(HangulJamo.walkChoseong(trie, "k")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("자모 trie 는 문자열을 만들지 않고 분해 키와 같은 노드에 도착한다")
+    void walkDecomposedMatchesDecomposedKey() {
+        TagSuggestTrie.Builder builder = new TagSuggestTrie.Builder(10);
+        builder.add(HangulJamo.decompose("스포츠"), 0);
+        builder.add(HangulJamo.decompose("달걀"), 1);
+        TagSuggestTrie trie = builder.build();
+
+        for (String query : new String[]{"스", "슾", "스포", "닭", "달걀"}) {
+            assertThat(HangulJamo.walkDecomposed(trie, query))
+                    .as(query)
+                    .isEqualTo(trie.walk(TagSuggestTrie.ROOT, HangulJamo.decompose(query)))
+                    .isPositive();
+        }
+        assertThat(HangulJamo.walkDecomposed(trie, "슈")).isEqualTo(-1);
+    }
+}
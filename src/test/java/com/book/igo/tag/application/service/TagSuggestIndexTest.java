@@ -0,0 +1,81 @@
+package com.book.igo.tag.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.book.igo.tag.application.dto.response.TagSuggestResponse;
+import com.book.igo.tag.domain.repository.TagRepository;
+import com.book.igo.tag.domain.repository.TagUsage;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class TagSuggestIndexTest {
+
+    private TagSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.findUsagesAfter(anyLong(), any(Limit.class))).thenReturn(List.of(
+                new TagUsage(1L, "스터디", 30L),
+                new TagUsage(2L, "스포츠", 50L),
+                new TagUsage(3L, "스키", 10L),
+                new TagUsage(4L, "수영", 40L),
+                new TagUsage(5L, "K팝", 20L),
+                new TagUsage(6L, "Kotlin", 20L)
+        ));
+
+        index = new TagSuggestIndex(tagRepository, 10, 5000);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("완성된 음절은 그 음절로 시작하는 태그를 사용 수 순으로 제안한다")
+    void completedSyllable() {
+        assertThat(names("스", 10)).containsExactly("스포츠", "스터디", "스키");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절 \"슾\" 은 \"스포츠\" 와 일치한다")
+    void syllableInProgress() {
+        assertThat(names("슾", 10)).containsExactly("스포츠");
+    }
+
+    @Test
+    @DisplayName("초성 질의 \"ㅅㅍ\" 는 \"스포츠\" 와 일치한다")
+    void choseongQuery() {
+        assertThat(names("ㅅㅍ", 10)).containsExactly("스포츠");
+    }
+
+    @Test
+    @DisplayName("자음 하나는 자모 trie 와 초성 trie 결과를 중복 없이 순위 순으로 합친다")
+    void singleConsonantMergesBothTries() {
+        assertThat(names("ㅅ", 10)).containsExactly("스포츠", "수영", "스터디", "스키");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고, 동점은 이름 순")
+    void caseInsensitiveWithTieBreakByName() {
+        assertThat(names("k", 10)).containsExactly("Kotlin", "K팝");
+        assertThat(names("Kㅍ", 10)).containsExactly("K팝");
+    }
+
+    @Test
+    @DisplayName("size 만큼만, 빈 질의와 일치 없는 질의는 빈 결과")
+    void sizeAndEmptyResults() {
+        assertThat(names("스", 1)).containsExactly("스포츠");
+        assertThat(index.suggest("  ", 10)).isEmpty();
+        assertThat(index.suggest(null, 10)).isEmpty();
+        assertThat(index.suggest("축구", 10)).isEmpty();
+    }
+
+    private List<String> names(String query, int size) {
+        return index.suggest(query, size).stream().map(TagSuggestResponse.Item::name).toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.book.igo.tag.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TagSuggestTrieTest {
+
+    @Test
+    @DisplayName("노드마다 그 접두사로 시작하는 항목의 상위 K 개를 순위 순으로 담는다")
+    void nodesKeepTopKInRankOrder() {
+        TagSuggestTrie.Builder builder = new TagSuggestTrie.Builder(2);
+        builder.add("abc", 0);
+        builder.add("abd", 1);
+        builder.add("ab", 2);
+        builder.add("b", 3);
+        TagSuggestTrie trie = builder.build();
+
+        assertThat(top(trie, TagSuggestTrie.ROOT)).containsExactly(0, 1);
+        assertThat(top(trie, trie.walk(TagSuggestTrie.ROOT, "ab"))).containsExactly(0, 1);
+        assertThat(top(trie, trie.walk(TagSuggestTrie.ROOT, "abd"))).containsExactly(1);
+        assertThat(top(trie, trie.walk(TagSuggestTrie.ROOT, "b"))).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("없는 경로와 -1 노드에서의 이동은 -1")
+    void missingPathReturnsMinusOne() {
+        TagSuggestTrie.Builder builder = new TagSuggestTrie.Builder(10);
+        builder.add("abc", 0);
+        TagSuggestTrie trie = builder.build();
+
+        assertThat(trie.walk(TagSuggestTrie.ROOT, "abx")).isEqualTo(-1);
+        assertThat(trie.step(-1, 'a')).isEqualTo(-1);
+        assertThat(trie.walk(TagSuggestTrie.ROOT, "")).isEqualTo(TagSuggestTrie.ROOT);
+    }
+
+    @Test
+    @DisplayName("같은 항목을 연달아 넣어도 상위 목록에는 한 번만 들어간다")
+    void duplicateEntryIsKeptOnce() {
+        TagSuggestTrie.Builder builder = new TagSuggestTrie.Builder(10);
+        builder.add("ab", 0);
+        builder.add("ab", 0);
+        builder.add("ac", 1);
+        TagSuggestTrie trie = builder.build();
+
+        assertThat(top(trie, trie.step(TagSuggestTrie.ROOT, 'a'))).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("간선이 많은 노드에서도 이진 탐색으로 자식을 찾는다")
+    void findsChildAmongManyEdges() {
+        TagSuggestTrie.Builder builder = new TagSuggestTrie.Builder(1);
+        String alphabet = "zyxwvutsrqponmlkjihgfedcba";
+        for (int i = 0; i < alphabet.length(); i++) {
+            builder.add(String.valueOf(alphabet.charAt(i)), i);
+        }
+        TagSuggestTrie trie = builder.build();
+
+        for (int i = 0; i < alphabet.length(); i++) {
+            int node = trie.step(TagSuggestTrie.ROOT, alphabet.charAt(i));
+            assertThat(top(trie, node)).containsExactly(i);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 trie 는 루트만 있다")
+    void emptyTrieHasOnlyRoot() {
+        TagSuggestTrie trie = new TagSuggestTrie.Builder(10).build();
+
+        assertThat(trie.topCount(TagSuggestTrie.ROOT)).isZero();
+        assertThat(trie.step(TagSuggestTrie.ROOT, 'a')).isEqualTo(-1);
+    }
+
+    private static List<Integer> top(TagSuggestTrie trie, int node) {
+        List<Integer> entries = new ArrayList<>();
+        for (int rank = 0; rank < trie.topCount(node); rank++) {
+            entries.add(trie.topEntry(node, rank));
+        }
+        return entries;
+    }
+}
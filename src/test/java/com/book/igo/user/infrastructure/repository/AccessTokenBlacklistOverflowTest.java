@@ -0,0 +1,50 @@
+package com.book.igo.user.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.user.domain.repository.TokenRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * near-cache 의 {@code max-size} 보다 많은 액세스 토큰이 폐기돼도, 밀려난 jti 가 다시 통과하지 않는지 확인합니다.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "auth.blacklist.near-cache.max-size=" + AccessTokenBlacklistOverflowTest.MAX_SIZE)
+class AccessTokenBlacklistOverflowTest {
+
+    static final int MAX_SIZE = 100;
+
+    private static final int REVOKED = MAX_SIZE * 5;
+    private static final long HOUR_MS = 3_600_000L;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private AccessTokenBlacklistNearCache nearCache;
+
+
+    @Test
+    @DisplayName("max-size 를 넘게 폐기해도 모든 jti 가 블랙리스트로 판정된다")
+    void revokedTokensStayRejectedAfterOverflow() {
+        long expiresAt = System.currentTimeMillis() + HOUR_MS;
+        List<String> jtis = new ArrayList<>(REVOKED);
+        for (int i = 0; i < REVOKED; i++) {
+            String jti = UUID.randomUUID().toString();
+            tokenRepository.blacklistAccessToken(jti, expiresAt);
+            jtis.add(jti);
+        }
+        nearCache.cleanUp();
+
+        assertThat(jtis).anyMatch(jti -> !nearCache.contains(jti));
+        assertThat(nearCache.isFresh()).isFalse();
+        assertThat(jtis).allMatch(jti -> tokenRepository.isAccessTokenBlacklisted(jti, expiresAt));
+    }
+}
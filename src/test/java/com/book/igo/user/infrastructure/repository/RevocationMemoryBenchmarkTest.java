@@ -0,0 +1,144 @@
+package com.book.igo.user.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.igo.common.jwt.JwtTokenProvider;
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.user.domain.repository.TokenRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * 액세스 토큰 폐기 기록의 Redis 메모리: 예전 방식(원본 Authorization 헤더를 키에 넣은 토큰별 문자열 키)과
+ * jti 기반 분 버킷 해시를 같은 토큰 집합으로 비교합니다.
+ *
+ * <p>만료 시각은 액세스 토큰 유효 시간(15분)에 고르게 퍼뜨립니다. 각 방식을 빈 DB 에 적재한 뒤
+ * {@code used_memory} 증가량을 토큰 수로 나눕니다.</p>
+ */
+@Tag("benchmark")
+@IntegrationTest
+class RevocationMemoryBenchmarkTest {
+
+    private static final int TOKENS = 20_000;
+    private static final long ACCESS_VALIDITY_MS = 900_000L;
+    private static final int PIPELINE_BATCH = 1_000;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+
+    @Test
+    @DisplayName("jti 분 버킷 저장은 토큰 전체를 키로 쓰는 저장보다 토큰당 메모리가 훨씬 적다")
+    void bucketedJtiUsesFarLessMemoryThanFullTokenKeys() {
+        long now = System.currentTimeMillis();
+        List<Revoked> revoked = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            long expiresAtMs = now + 60_000L + (ACCESS_VALIDITY_MS * i / TOKENS);
+            String jti = UUID.randomUUID().toString();
+            revoked.add(new Revoked("Bearer " + accessToken(jti, expiresAtMs), jti, expiresAtMs));
+        }
+
+        long legacyBytes = measure(() -> {
+            for (int from = 0; from < TOKENS; from += PIPELINE_BATCH) {
+                List<Revoked> batch = revoked.subList(from, Math.min(from + PIPELINE_BATCH, TOKENS));
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    // 예전 TokenRedisRepository.blacklistKey + set(..., "blacklisted", ttl)
+                    for (Revoked token : batch) {
+                        connection.stringCommands().set(
+                                utf8("auth:blacklist:access:" + token.header()),
+                                utf8("blacklisted"),
+                                Expiration.milliseconds(token.expiresAtMs() - now),
+                                SetOption.upsert());
+                    }
+                    return null;
+                });
+            }
+        });
+
+        long bucketedBytes = measure(() -> revoked.forEach(
+                token -> tokenRepository.blacklistAccessToken(token.jti(), token.expiresAtMs())));
+
+        // 분 버킷 해시에 16바이트 jti 필드로 들어갔는지 Redis 에서 직접 확인 (near cache 를 거치지 않음)
+        Revoked first = revoked.get(0);
+        Boolean stored = redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.hashCommands().hExists(
+                RevocationBuckets.keyBytes(RevocationBuckets.ACCESS_PREFIX, RevocationBuckets.bucketOf(first.expiresAtMs())),
+                RevocationBuckets.toField(first.jti())));
+        assertThat(stored).isTrue();
+        flush();
+
+        double legacyPerToken = (double) legacyBytes / TOKENS;
+        double bucketedPerToken = (double) bucketedBytes / TOKENS;
+        System.out.printf("[benchmark] full-token keys: %.1f B/token, jti buckets: %.1f B/token (%.1fx)%n",
+                legacyPerToken, bucketedPerToken, legacyPerToken / bucketedPerToken);
+
+        assertThat(bucketedPerToken * 4).isLessThan(legacyPerToken);
+    }
+
+    /**
+     * DB 를 비운 뒤 {@code load} 를 실행해 늘어난 {@code used_memory}.
+     */
+    private long measure(Runnable load) {
+        flush();
+        long before = usedMemory();
+        load.run();
+        return usedMemory() - before;
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        assertThat(info).isNotNull();
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    private String accessToken(String jti, long expiresAtMs) {
+        return Jwts.builder()
+                .header().type("JWT")
+                .and()
+                .subject("42")
+                .issuedAt(new Date())
+                .expiration(new Date(expiresAtMs))
+                .claim("email", "revoked-user@test.com")
+                .claim("nickName", "revoked")
+                .claim("USER_ROLE", "USER")
+                .claim("ver", 0L)
+                .claim("sid", UUID.randomUUID().toString())
+                .id(jti)
+                .signWith(jwtTokenProvider.getAccessTokenKey(), SIG.HS256)
+                .compact();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Revoked(String header, String jti, long expiresAtMs) {
+    }
+}
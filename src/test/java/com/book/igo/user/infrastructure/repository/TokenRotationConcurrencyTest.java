@@ -0,0 +1,189 @@
+package com.book.igo.user.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.book.igo.common.jwt.JwtErrorCode;
+import com.book.igo.common.jwt.JwtTokenProvider;
+import com.book.igo.common.jwt.TokenClaims;
+import com.book.igo.common.jwt.TokenException;
+import com.book.igo.support.IntegrationTest;
+import com.book.igo.user.application.dto.response.SignInResponse;
+import com.book.igo.user.application.service.AuthService;
+import com.book.igo.user.domain.entity.User;
+import com.book.igo.user.domain.repository.TokenRepository;
+import com.book.igo.user.domain.repository.TokenRepository.RefreshSession;
+import com.book.igo.user.domain.repository.TokenRepository.RotationResult;
+import com.book.igo.user.domain.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * RT Rotation 스크립트의 반환 계약(1 / -1 / -2 / -3)과 같은 RT 로 동시에 들어온 재발급의 단일 승자를 확인합니다.
+ */
+@IntegrationTest
+class TokenRotationConcurrencyTest {
+
+    private static final int PARALLEL = 64;
+    private static final long HOUR_MS = 3_600_000L;
+    private static final AtomicInteger USER_SEQ = new AtomicInteger();
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+
+    @Test
+    @DisplayName("같은 RT jti 로 동시에 Rotation 하면 한 건만 ROTATED, 나머지는 REUSED")
+    void parallelRotationsHaveExactlyOneWinner() throws Exception {
+        long userId = 1_000_000L + USER_SEQ.incrementAndGet();
+        String sessionId = UUID.randomUUID().toString();
+        String oldJti = UUID.randomUUID().toString();
+        tokenRepository.saveRefreshSession(userId, session(sessionId, oldJti), 5);
+
+        List<Callable<Attempt>> attempts = new ArrayList<>();
+        for (int i = 0; i < PARALLEL; i++) {
+            String newJti = UUID.randomUUID().toString();
+            String reissueResult = "at-" + i + " rt-" + i;
+            attempts.add(() -> new Attempt(newJti, reissueResult, tokenRepository.rotateRefreshToken(
+                    userId, oldJti, System.currentTimeMillis() + HOUR_MS, session(sessionId, newJti),
+                    UUID.randomUUID().toString(), System.currentTimeMillis() + HOUR_MS,
+                    reissueResult, 10_000L)));
+        }
+        List<Attempt> results = runConcurrently(attempts);
+
+        List<Attempt> winners = results.stream().filter(a -> a.result() == RotationResult.ROTATED).toList();
+        assertThat(winners).hasSize(1);
+        assertThat(results).filteredOn(a -> a.result() == RotationResult.REUSED).hasSize(PARALLEL - 1);
+
+        // 세션에는 승자의 새 RT, 재발급 결과 캐시에는 승자의 결과, 기존 RT 는 폐기
+        Attempt winner = winners.get(0);
+        assertThat(tokenRepository.findRefreshSessions(userId))
+                .singleElement()
+                .extracting(RefreshSession::refreshJti)
+                .isEqualTo(winner.newJti());
+        assertThat(tokenRepository.findReissueResult(oldJti)).isEqualTo(winner.reissueResult());
+        assertThat(tokenRepository.isRefreshTokenBlacklisted(oldJti, System.currentTimeMillis() + HOUR_MS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 NOT_FOUND, 세션에 다른 RT 가 있으면 MISMATCH")
+    void rotationRejectsUnknownSessionAndMismatchedJti() {
+        long userId = 1_000_000L + USER_SEQ.incrementAndGet();
+        String sessionId = UUID.randomUUID().toString();
+        String storedJti = UUID.randomUUID().toString();
+
+        assertThat(rotate(userId, sessionId, storedJti)).isEqualTo(RotationResult.NOT_FOUND);
+
+        tokenRepository.saveRefreshSession(userId, session(sessionId, storedJti), 5);
+        assertThat(rotate(userId, sessionId, UUID.randomUUID().toString())).isEqualTo(RotationResult.MISMATCH);
+
+        // 거절된 시도는 세션을 바꾸지 않음
+        assertThat(tokenRepository.findRefreshSessions(userId))
+                .singleElement()
+                .extracting(RefreshSession::refreshJti)
+                .isEqualTo(storedJti);
+    }
+
+    @Test
+    @DisplayName("동시 재발급은 모두 같은 토큰 쌍을 받고, 유예 시간이 지난 뒤의 재사용은 거절된다")
+    void parallelReissuesShareOneResultAndLateReuseIsRejected() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("reissue-" + USER_SEQ.incrementAndGet() + "@test.com")
+                .password("password")
+                .nickName("reissue")
+                .build());
+        String sessionId = UUID.randomUUID().toString();
+        long tokenEpoch = tokenRepository.getTokenEpoch(user.getId());
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user, tokenEpoch, sessionId);
+        TokenClaims refreshClaims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        tokenRepository.saveRefreshSession(user.getId(), session(sessionId, refreshClaims.jti()), 5);
+
+        List<Callable<SignInResponse>> reissues = new ArrayList<>();
+        for (int i = 0; i < PARALLEL; i++) {
+            reissues.add(() -> authService.reissue(null, refreshToken));
+        }
+        List<SignInResponse> responses = runConcurrently(reissues);
+
+        // 단 한 번 Rotation 된 결과를 모두가 공유
+        assertThat(responses).extracting(SignInResponse::refreshToken).containsOnly(responses.get(0).refreshToken());
+        assertThat(responses).extracting(SignInResponse::accessToken).containsOnly(responses.get(0).accessToken());
+        String rotatedJti = jwtTokenProvider.verifyRefreshToken(responses.get(0).refreshToken()).jti();
+        assertThat(tokenRepository.findRefreshSessions(user.getId()))
+                .singleElement()
+                .extracting(RefreshSession::refreshJti)
+                .isEqualTo(rotatedJti);
+
+        // 유예 시간 경과 (보관된 재발급 결과 만료) 후 같은 RT 재사용은 REUSED → 거절
+        redisTemplate.delete("auth:reissue:result:" + refreshClaims.jti());
+        assertThatThrownBy(() -> authService.reissue(null, refreshToken))
+                .isInstanceOf(TokenException.class)
+                .extracting(e -> ((TokenException) e).getErrorCode())
+                .isEqualTo(JwtErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    private RotationResult rotate(long userId, String sessionId, String oldJti) {
+        return tokenRepository.rotateRefreshToken(
+                userId, oldJti, System.currentTimeMillis() + HOUR_MS,
+                session(sessionId, UUID.randomUUID().toString()),
+                null, 0L, "at rt", 10_000L);
+    }
+
+    private static RefreshSession session(String sessionId, String refreshJti) {
+        long now = System.currentTimeMillis();
+        return new RefreshSession(
+                sessionId, refreshJti, now + HOUR_MS, UUID.randomUUID().toString(), now + HOUR_MS, now, now, "test");
+    }
+
+    /**
+     * 모든 작업을 출발선에 세운 뒤 한꺼번에 실행합니다.
+     */
+    private static <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Attempt(String newJti, String reissueResult, RotationResult result) {
+    }
+}